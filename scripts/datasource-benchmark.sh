@@ -0,0 +1,86 @@
+#!/usr/bin/env bash
+# Before/after comparison of the default datasource settings and the "throughput"
+# profile on three paths: row-by-row inserts (seeding courses and topics),
+# transfer evaluations under concurrency, and the streaming matrix export.
+#
+#   scripts/datasource-benchmark.sh
+#   COURSES=500 EVALS=5000 CONCURRENCY=32 scripts/datasource-benchmark.sh
+#
+# Requires curl, a built jar (./mvnw package) and the MySQL instance from
+# application.properties. Each run seeds fresh universities, so it can be repeated.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+COURSES=${COURSES:-200}
+TOPICS=${TOPICS:-5}
+EVALS=${EVALS:-2000}
+CONCURRENCY=${CONCURRENCY:-16}
+PORT=${PORT:-9001}
+JAVA=${JAVA:-java}
+JAR=target/demo-0.0.1-SNAPSHOT.jar
+BASE=http://localhost:$PORT/api
+OUT=target/datasource-benchmark
+
+[[ -f "$JAR" ]] || { echo "missing $JAR; build with ./mvnw package" >&2; exit 1; }
+mkdir -p "$OUT"
+
+now() { date +%s.%N; }
+elapsed() { awk -v a="$1" -v b="$(now)" 'BEGIN { printf "%.2f", b - a }'; }
+post() { curl -sf -X POST -H 'Content-Type: application/json' -d "$2" "$BASE$1"; }
+id_of() { grep -o '"id":[0-9]*' | head -1 | cut -d: -f2; }
+
+run() {
+    local name=$1 profiles=$2
+    local log=$OUT/$name.log
+    # Admission control would throttle the load generator itself.
+    "$JAVA" -jar "$JAR" --spring.profiles.active="$profiles" --throttle.enabled=false >"$log" 2>&1 &
+    local pid=$!
+    trap "kill $pid 2>/dev/null || true" RETURN
+    until grep -q "Started DemoApplication" "$log"; do
+        kill -0 "$pid" 2>/dev/null || { echo "$name failed to start, see $log" >&2; return 1; }
+        sleep 0.2
+    done
+
+    local tag=$name-$RANDOM
+    local source target
+    source=$(post /universities "{\"name\":\"bench-src-$tag\"}" | id_of)
+    target=$(post /universities "{\"name\":\"bench-tgt-$tag\"}" | id_of)
+    post /transfer-rules "{\"sourceUniversity\":{\"id\":$source},\"targetUniversity\":{\"id\":$target},\"minimumOverlapPercentage\":50,\"creditHourTolerance\":1}" >/dev/null
+
+    local start src_ids=() tgt_ids=()
+    start=$(now)
+    for ((i = 0; i < COURSES; i++)); do
+        for univ in "$source" "$target"; do
+            local course
+            course=$(post /courses "{\"courseCode\":\"B$i\",\"courseName\":\"Bench $i\",\"creditHours\":3,\"university\":{\"id\":$univ}}" | id_of)
+            for ((t = 0; t < TOPICS; t++)); do
+                post /topics "{\"topicName\":\"topic-$(( (i + t) % 40 ))\",\"weightPercentage\":20,\"course\":{\"id\":$course}}" >/dev/null
+            done
+            if [[ $univ == "$source" ]]; then src_ids+=("$course"); else tgt_ids+=("$course"); fi
+        done
+    done
+    local insert_s
+    insert_s=$(elapsed "$start")
+
+    start=$(now)
+    for ((i = 0; i < EVALS; i++)); do
+        echo "${src_ids[RANDOM % COURSES]} ${tgt_ids[RANDOM % COURSES]}"
+    done | xargs -P "$CONCURRENCY" -n 2 sh -c \
+        "curl -sf -o /dev/null -X POST $BASE/transfer-evaluations/evaluate/\$0/\$1 || echo fail" >"$OUT/$name.failures"
+    local eval_s failures
+    eval_s=$(elapsed "$start")
+    failures=$(wc -l <"$OUT/$name.failures")
+
+    start=$(now)
+    curl -sf -o /dev/null "$BASE/transfer-evaluations/matrix/$source/$target"
+    local export_s
+    export_s=$(elapsed "$start")
+
+    printf "%-12s %10s %10s %10s %10s %8s\n" "$name" "$insert_s" "$eval_s" \
+        "$(awk -v n="$EVALS" -v s="$eval_s" 'BEGIN { printf "%.0f", n / s }')" "$export_s" "$failures"
+}
+
+printf "%-12s %10s %10s %10s %10s %8s\n" profile insert-s eval-s eval/s export-s failed
+run default default
+run throughput throughput
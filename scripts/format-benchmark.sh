@@ -0,0 +1,76 @@
+#!/usr/bin/env bash
+# JSON vs Smile vs CBOR on the streaming exports: payload bytes and time to the last
+# byte (median of RUNS requests each) for one university's course list and one
+# course's evaluations. Evaluations are seeded through POST /evaluate, so the
+# second export is as large as COURSES * EVALS_PER_COURSE.
+#
+#   scripts/format-benchmark.sh
+#   COURSES=2000 EVALS_PER_COURSE=20 RUNS=21 scripts/format-benchmark.sh
+#
+# Requires curl, a built jar (./mvnw package) and the MySQL instance from
+# application.properties. Each run seeds fresh universities, so it can be repeated.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+COURSES=${COURSES:-500}
+TOPICS=${TOPICS:-5}
+EVALS_PER_COURSE=${EVALS_PER_COURSE:-4}
+RUNS=${RUNS:-11}
+PORT=${PORT:-9001}
+JAVA=${JAVA:-java}
+JAR=target/demo-0.0.1-SNAPSHOT.jar
+BASE=http://localhost:$PORT/api
+OUT=target/format-benchmark
+
+[[ -f "$JAR" ]] || { echo "missing $JAR; build with ./mvnw package" >&2; exit 1; }
+mkdir -p "$OUT"
+
+post() { curl -sf -X POST -H 'Content-Type: application/json' -d "$2" "$BASE$1"; }
+id_of() { grep -o '"id":[0-9]*' | head -1 | cut -d: -f2; }
+median() { sort -n | awk '{ v[NR] = $1 } END { print v[int((NR + 1) / 2)] }'; }
+
+# Admission control would throttle the seeding loop.
+"$JAVA" -jar "$JAR" --throttle.enabled=false >"$OUT/app.log" 2>&1 &
+PID=$!
+trap 'kill $PID 2>/dev/null || true' EXIT
+until grep -q "Started DemoApplication" "$OUT/app.log"; do
+    kill -0 "$PID" 2>/dev/null || { echo "app failed to start, see $OUT/app.log" >&2; exit 1; }
+    sleep 0.2
+done
+
+tag=$RANDOM
+source=$(post /universities "{\"name\":\"fmt-src-$tag\"}" | id_of)
+target=$(post /universities "{\"name\":\"fmt-tgt-$tag\"}" | id_of)
+post /transfer-rules "{\"sourceUniversity\":{\"id\":$source},\"targetUniversity\":{\"id\":$target},\"minimumOverlapPercentage\":50,\"creditHourTolerance\":1}" >/dev/null
+first=
+for ((i = 0; i < COURSES; i++)); do
+    src=$(post /courses "{\"courseCode\":\"F$i\",\"courseName\":\"Format bench $i\",\"creditHours\":3,\"department\":\"CS\",\"university\":{\"id\":$source}}" | id_of)
+    tgt=$(post /courses "{\"courseCode\":\"F$i\",\"courseName\":\"Format bench $i\",\"creditHours\":3,\"department\":\"CS\",\"university\":{\"id\":$target}}" | id_of)
+    for ((t = 0; t < TOPICS; t++)); do
+        post /topics "{\"topicName\":\"topic-$(( (i + t) % 40 ))\",\"weightPercentage\":20,\"course\":{\"id\":$src}}" >/dev/null
+        post /topics "{\"topicName\":\"topic-$(( (i + t + 1) % 40 ))\",\"weightPercentage\":20,\"course\":{\"id\":$tgt}}" >/dev/null
+    done
+    first=${first:-$src}
+    for ((e = 0; e < EVALS_PER_COURSE; e++)); do
+        curl -sf -o /dev/null -X POST "$BASE/transfer-evaluations/evaluate/$first/$tgt"
+    done
+done
+
+measure() {
+    local name=$1 path=$2
+    for format in application/json application/x-jackson-smile application/cbor; do
+        local bytes times=()
+        for ((r = 0; r < RUNS; r++)); do
+            read -r bytes t < <(curl -sf -o /dev/null -H "Accept: $format" \
+                -w '%{size_download} %{time_total}\n' "$BASE$path")
+            times+=("$t")
+        done
+        printf "%-18s %-30s %12s %10s\n" "$name" "$format" "$bytes" \
+            "$(printf '%s\n' "${times[@]}" | median | awk '{ printf "%.1f", $1 * 1000 }')"
+    done
+}
+
+printf "%-18s %-30s %12s %10s\n" export format bytes p50-ms
+measure courses "/courses/university/$source/stream"
+measure evaluations "/transfer-evaluations/course/$first/stream"
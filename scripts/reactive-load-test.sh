@@ -0,0 +1,133 @@
+#!/usr/bin/env bash
+# Servlet vs reactive mode under the same read/evaluate load: the mix is course
+# lists, evaluation lists and POST /evaluate. Reports throughput, p50/p99 latency,
+# the peak number of database connections held (Hikari active + R2DBC acquired,
+# sampled from actuator) and the peak live JVM thread count.
+#
+#   scripts/reactive-load-test.sh
+#   COURSES=100 REQUESTS=20000 CONCURRENCY=256 scripts/reactive-load-test.sh
+#
+# Requires curl, a built jar (./mvnw package) and the MySQL instance from
+# application.properties. Data is seeded through the servlet run (the reactive mode
+# has no write endpoints) and reused for the reactive run.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+COURSES=${COURSES:-50}
+TOPICS=${TOPICS:-5}
+REQUESTS=${REQUESTS:-5000}
+CONCURRENCY=${CONCURRENCY:-128}
+PORT=${PORT:-9001}
+JAVA=${JAVA:-java}
+JAR=target/demo-0.0.1-SNAPSHOT.jar
+BASE=http://localhost:$PORT/api
+OUT=target/reactive-load-test
+
+[[ -f "$JAR" ]] || { echo "missing $JAR; build with ./mvnw package" >&2; exit 1; }
+mkdir -p "$OUT"
+
+post() { curl -sf -X POST -H 'Content-Type: application/json' -d "$2" "$BASE$1"; }
+id_of() { grep -o '"id":[0-9]*' | head -1 | cut -d: -f2; }
+metric() {
+    curl -sf "http://localhost:$PORT/actuator/metrics/$1" 2>/dev/null \
+        | grep -o '"value":[0-9.E-]*' | head -1 | cut -d: -f2 || true
+}
+
+PID=
+start_app() {
+    local name=$1 profiles=$2
+    local log=$OUT/$name.log
+    "$JAVA" -jar "$JAR" --spring.profiles.active="$profiles" --throttle.enabled=false >"$log" 2>&1 &
+    PID=$!
+    until grep -q "Started DemoApplication" "$log"; do
+        kill -0 "$PID" 2>/dev/null || { echo "$name failed to start, see $log" >&2; exit 1; }
+        sleep 0.2
+    done
+}
+stop_app() { kill "$PID" 2>/dev/null || true; wait "$PID" 2>/dev/null || true; }
+trap stop_app EXIT
+
+SRC_IDS=()
+TGT_IDS=()
+seed() {
+    local tag=load-$RANDOM source target
+    source=$(post /universities "{\"name\":\"load-src-$tag\"}" | id_of)
+    target=$(post /universities "{\"name\":\"load-tgt-$tag\"}" | id_of)
+    post /transfer-rules "{\"sourceUniversity\":{\"id\":$source},\"targetUniversity\":{\"id\":$target},\"minimumOverlapPercentage\":50,\"creditHourTolerance\":1}" >/dev/null
+    for ((i = 0; i < COURSES; i++)); do
+        for univ in "$source" "$target"; do
+            local course
+            course=$(post /courses "{\"courseCode\":\"L$i\",\"courseName\":\"Load $i\",\"creditHours\":3,\"university\":{\"id\":$univ}}" | id_of)
+            for ((t = 0; t < TOPICS; t++)); do
+                post /topics "{\"topicName\":\"topic-$(( (i + t) % 40 ))\",\"weightPercentage\":20,\"course\":{\"id\":$course}}" >/dev/null
+            done
+            if [[ $univ == "$source" ]]; then SRC_IDS+=("$course"); else TGT_IDS+=("$course"); fi
+        done
+    done
+    SOURCE_UNIV=$source
+}
+
+sample() {
+    local file=$1
+    : >"$file"
+    while kill -0 "$PID" 2>/dev/null; do
+        local hikari r2dbc threads
+        hikari=$(metric hikaricp.connections.active)
+        r2dbc=$(metric r2dbc.pool.acquired)
+        threads=$(metric jvm.threads.live)
+        echo "${hikari:-0} ${r2dbc:-0} ${threads:-0}" >>"$file"
+        sleep 0.25
+    done
+}
+
+load() {
+    local name=$1
+    for ((i = 0; i < REQUESTS; i++)); do
+        local s=${SRC_IDS[RANDOM % COURSES]} t=${TGT_IDS[RANDOM % COURSES]}
+        case $((i % 3)) in
+            0) echo "GET $BASE/courses/university/$SOURCE_UNIV" ;;
+            1) echo "GET $BASE/transfer-evaluations/course/$s" ;;
+            2) echo "POST $BASE/transfer-evaluations/evaluate/$s/$t" ;;
+        esac
+    done | xargs -P "$CONCURRENCY" -n 2 sh -c \
+        'curl -s -o /dev/null -X "$0" -w "%{http_code} %{time_total}\n" "$1"' >"$OUT/$name.times"
+}
+
+run() {
+    local name=$1
+    sample "$OUT/$name.samples" &
+    local sampler=$!
+    local start end
+    start=$(date +%s.%N)
+    load "$name"
+    end=$(date +%s.%N)
+    kill "$sampler" 2>/dev/null || true
+
+    local failed
+    failed=$(awk '$1 >= 400 || $1 == 0' "$OUT/$name.times" | wc -l)
+    awk '{ print $2 }' "$OUT/$name.times" | sort -n >"$OUT/$name.sorted"
+    local n p50 p99
+    n=$(wc -l <"$OUT/$name.sorted")
+    p50=$(awk -v n="$n" 'NR == int(n * 0.50) + 1 { printf "%.1f", $1 * 1000 }' "$OUT/$name.sorted")
+    p99=$(awk -v n="$n" 'NR == int(n * 0.99) + 1 { printf "%.1f", $1 * 1000 }' "$OUT/$name.sorted")
+    local conns threads
+    conns=$(awk '{ c = $1 + $2; if (c > m) m = c } END { printf "%.0f", m }' "$OUT/$name.samples")
+    threads=$(awk '{ if ($3 > m) m = $3 } END { printf "%.0f", m }' "$OUT/$name.samples")
+
+    printf "%-10s %10s %10s %10s %12s %12s %8s\n" "$name" \
+        "$(awk -v n="$n" -v a="$start" -v b="$end" 'BEGIN { printf "%.0f", n / (b - a) }')" \
+        "$p50" "$p99" "$conns" "$threads" "$failed"
+}
+
+start_app servlet default
+seed
+# Warm up the policy cache and JIT before measuring.
+REQUESTS=$((CONCURRENCY * 4)) load warmup-servlet
+printf "%-10s %10s %10s %10s %12s %12s %8s\n" mode req/s p50-ms p99-ms peak-db-conn peak-threads failed
+run servlet
+stop_app
+
+start_app reactive reactive
+REQUESTS=$((CONCURRENCY * 4)) load warmup-reactive
+run reactive
@@ -0,0 +1,15 @@
+-- Outbox read by ChangeFeedPoller; rows older than changefeed.retention-hours are purged.
+create table change_event (
+    id bigint not null auto_increment,
+    entity_type varchar(255),
+    entity_id bigint,
+    operation varchar(255),
+    course_id bigint,
+    university_id bigint,
+    target_university_id bigint,
+    node_id varchar(255),
+    created_at datetime(6),
+    primary key (id)
+) engine=InnoDB;
+
+create index idx_change_event_created_at on change_event (created_at);
@@ -0,0 +1,16 @@
+-- Multi-criteria transfer rules, course departments and topic categories.
+create table transfer_rule_criterion (
+    id bigint not null auto_increment,
+    type varchar(255),
+    topic_name varchar(255),
+    category varchar(255),
+    department varchar(255),
+    criterion_value float(53),
+    rule_id bigint,
+    primary key (id),
+    constraint fk_transfer_rule_criterion_rule foreign key (rule_id) references transfer_rule (id)
+) engine=InnoDB;
+
+alter table course add column department varchar(255);
+alter table course_content_topic add column category varchar(255);
+alter table transfer_evaluation_result add column failed_criterion varchar(255);
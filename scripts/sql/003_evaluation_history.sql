@@ -0,0 +1,25 @@
+-- Re-evaluation keeps the rows it replaces and logs outcome changes; explanations
+-- are stored out of row.
+alter table transfer_evaluation_result
+    add column superseded_by_id bigint,
+    add column superseded_at datetime(6);
+
+create table evaluation_change (
+    id bigint not null auto_increment,
+    source_course_id bigint,
+    target_course_id bigint,
+    previous_eligible bit,
+    current_eligible bit,
+    previous_overlap_percentage float(53),
+    current_overlap_percentage float(53),
+    trigger_type varchar(255),
+    trigger_id bigint,
+    changed_at datetime(6),
+    primary key (id)
+) engine=InnoDB;
+
+create table evaluation_explanation_blob (
+    evaluation_id bigint not null,
+    data blob,
+    primary key (evaluation_id)
+) engine=InnoDB;
@@ -0,0 +1,18 @@
+-- Id blocks for the write-behind evaluation store and per university pair totals.
+create table id_block (
+    name varchar(255) not null,
+    next_value bigint,
+    primary key (name)
+) engine=InnoDB;
+
+create table university_pair_stats (
+    id bigint not null auto_increment,
+    source_university_id bigint,
+    target_university_id bigint,
+    evaluation_count bigint not null,
+    eligible_count bigint not null,
+    overlap_sum float(53) not null,
+    updated_at datetime(6),
+    primary key (id),
+    constraint uk_university_pair_stats_pair unique (source_university_id, target_university_id)
+) engine=InnoDB;
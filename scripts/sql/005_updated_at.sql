@@ -0,0 +1,11 @@
+-- ETags are derived from these columns. Existing rows get the migration time, so
+-- clients holding ETags from before the upgrade refetch once.
+alter table university add column updated_at datetime(6);
+alter table course add column updated_at datetime(6);
+alter table course_content_topic add column updated_at datetime(6);
+alter table transfer_rule add column updated_at datetime(6);
+
+update university set updated_at = now(6) where updated_at is null;
+update course set updated_at = now(6) where updated_at is null;
+update course_content_topic set updated_at = now(6) where updated_at is null;
+update transfer_rule set updated_at = now(6) where updated_at is null;
@@ -0,0 +1,84 @@
+#!/usr/bin/env bash
+# Measures startup time and resident memory of the prod profile in four modes:
+# plain JVM, Spring AOT, CDS archive, and AOT + CDS.
+#
+#   scripts/startup-benchmark.sh            # build with -Pprod, then benchmark
+#   SKIP_BUILD=1 RUNS=10 scripts/startup-benchmark.sh
+#
+# The app needs its database reachable, exactly as in a normal start.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS=${RUNS:-5}
+TIMEOUT=${TIMEOUT:-120}
+JAVA=${JAVA:-java}
+PROFILE=${PROFILE:-prod}
+JAR=target/demo-0.0.1-SNAPSHOT.jar
+OUT=target/startup-benchmark
+EXTRACTED=$OUT/extracted
+APP_JAR=$EXTRACTED/demo-0.0.1-SNAPSHOT.jar
+ARCHIVE=$OUT/app.jsa
+
+if [[ -z "${SKIP_BUILD:-}" ]]; then
+    ./mvnw -B -q -Pprod -DskipTests package
+fi
+[[ -f "$JAR" ]] || { echo "missing $JAR; build with ./mvnw -Pprod package" >&2; exit 1; }
+
+rm -rf "$OUT"
+mkdir -p "$OUT"
+
+# CDS needs the exploded layout (application jar + lib/) so class paths are stable.
+"$JAVA" -Djarmode=tools -jar "$JAR" extract --destination "$EXTRACTED" >/dev/null
+
+# Training run: start the context, exit after refresh and dump the loaded classes.
+echo "Training CDS archive..."
+"$JAVA" -XX:ArchiveClassesAtExit="$ARCHIVE" -Dspring.aot.enabled=true -Dspring.context.exit=onRefresh \
+    -jar "$APP_JAR" --spring.profiles.active="$PROFILE" >"$OUT/training.log" 2>&1 \
+    || { echo "training run failed, see $OUT/training.log" >&2; exit 1; }
+
+# Starts the app, waits for the "Started" line, prints "<seconds> <rss-kb>" and stops it.
+measure() {
+    local log=$OUT/run.log
+    "$JAVA" "$@" -jar "$APP_JAR" --spring.profiles.active="$PROFILE" >"$log" 2>&1 &
+    local pid=$!
+    local waited=0
+    until grep -q "Started DemoApplication in" "$log"; do
+        if ! kill -0 "$pid" 2>/dev/null || (( waited >= TIMEOUT * 10 )); then
+            kill "$pid" 2>/dev/null || true
+            echo "start failed, see $log" >&2
+            return 1
+        fi
+        sleep 0.1
+        waited=$((waited + 1))
+    done
+    local seconds rss
+    seconds=$(grep -o "Started DemoApplication in [0-9.]*" "$log" | awk '{print $4}')
+    rss=$(awk '/VmRSS/ {print $2}' "/proc/$pid/status")
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    echo "$seconds $rss"
+}
+
+bench() {
+    local name=$1
+    shift
+    local results=$OUT/$name.txt
+    : >"$results"
+    for ((i = 0; i < RUNS; i++)); do
+        measure "$@" >>"$results"
+    done
+    # Each column is sorted on its own; the fastest run is not necessarily the median RSS.
+    paste <(cut -d' ' -f1 "$results" | sort -n) <(cut -d' ' -f2 "$results" | sort -n) | awk -v name="$name" '
+        { t[NR] = $1; r[NR] = $2; sum_t += $1; sum_r += $2 }
+        END {
+            printf "%-10s %8.3f %8.3f %10d %10d\n", name, t[int((NR + 1) / 2)], sum_t / NR,
+                r[int((NR + 1) / 2)] / 1024, sum_r / NR / 1024
+        }'
+}
+
+printf "%-10s %8s %8s %10s %10s\n" mode p50-s avg-s p50-rssMB avg-rssMB
+bench plain
+bench aot -Dspring.aot.enabled=true
+bench cds -XX:SharedArchiveFile="$ARCHIVE"
+bench aot+cds -Dspring.aot.enabled=true -XX:SharedArchiveFile="$ARCHIVE"
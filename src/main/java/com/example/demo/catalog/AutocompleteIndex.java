@@ -0,0 +1,194 @@
+package com.example.demo.catalog;
+
+import com.example.demo.changefeed.ChangeEventListener;
+import com.example.demo.dto.CourseSuggestion;
+import com.example.demo.entity.ChangeEvent;
+import com.example.demo.entity.Course;
+import com.example.demo.entity.CourseContentTopic;
+import com.example.demo.repository.CourseContentTopicRepository;
+import com.example.demo.repository.CourseRepository;
+import com.example.demo.repository.UniversityRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Type-ahead over course codes, course names and topic names, one PrefixIndex per
+// university. An index is built on first use and then patched after each committed
+// course or topic write, local or from the change feed. Like the catalog shards, the
+// indexes share a memory budget and the least recently used ones are evicted.
+@Component
+public class AutocompleteIndex implements ChangeEventListener {
+    private static final Logger log = LoggerFactory.getLogger(AutocompleteIndex.class);
+    private static final int MAX_LIMIT = 50;
+    private static final int COURSE_STRIPES = 64;
+
+    @Autowired
+    private CourseRepository courseRepo;
+    @Autowired
+    private CourseContentTopicRepository topicRepo;
+    @Autowired
+    private UniversityRepository univRepo;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${catalog.autocomplete.memory-budget-mb:16}")
+    private long memoryBudgetMb;
+
+    private final Map<Long, PrefixIndex> indexes = new ConcurrentHashMap<>();
+    private final Object evictLock = new Object();
+    private final AtomicLong clock = new AtomicLong();
+    // Serializes refreshes of one course (read and apply) so two writes to it cannot be
+    // applied out of order; refreshes of different courses read the database in parallel.
+    private final Object[] courseLocks = new Object[COURSE_STRIPES];
+    private Timer lookups;
+    private Counter evictions;
+
+    @PostConstruct
+    public void init() {
+        for (int i = 0; i < courseLocks.length; i++) {
+            courseLocks[i] = new Object();
+        }
+        lookups = Timer.builder("catalog.autocomplete").publishPercentiles(0.5, 0.99).register(meterRegistry);
+        meterRegistry.gauge("catalog.autocomplete.courses", indexes,
+                m -> m.values().stream().mapToInt(PrefixIndex::size).sum());
+        meterRegistry.gauge("catalog.autocomplete.bytes", this, AutocompleteIndex::getResidentBytes);
+        evictions = meterRegistry.counter("catalog.autocomplete.evictions");
+    }
+
+    public long getResidentBytes() {
+        return indexes.values().stream().mapToLong(PrefixIndex::getEstimatedBytes).sum();
+    }
+
+    public long getMemoryBudgetBytes() {
+        return memoryBudgetMb * 1024 * 1024;
+    }
+
+    public List<CourseSuggestion> suggest(Long universityId, String query, int limit) {
+        Objects.requireNonNull(universityId, "University ID cannot be null");
+        if (query == null || query.trim().isEmpty()) {
+            throw new IllegalArgumentException("Search query is required");
+        }
+        long start = System.nanoTime();
+        List<CourseSuggestion> suggestions = new ArrayList<>();
+        for (PrefixIndex.Match match : index(universityId).lookup(query, Math.max(1, Math.min(limit, MAX_LIMIT)))) {
+            PrefixIndex.Entry course = match.course();
+            String key = match.key();
+            suggestions.add(new CourseSuggestion(course.courseId(), course.courseCode(), course.courseName(),
+                    field(key.charAt(0)), key.substring(1)));
+        }
+        lookups.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return suggestions;
+    }
+
+    @Override
+    public void onChange(ChangeEvent event) {
+        if (ChangeEvent.COURSE.equals(event.getEntityType()) || ChangeEvent.TOPIC.equals(event.getEntityType())) {
+            refresh(event.getCourseId(), event.getUniversityId());
+        }
+    }
+
+    private PrefixIndex index(Long universityId) {
+        PrefixIndex index = indexes.computeIfAbsent(universityId, k -> new PrefixIndex());
+        index.touch(clock.incrementAndGet());
+        if (!index.loaded) {
+            // Writers take the same monitor, so a commit that lands while the catalog is
+            // being read is applied after the load instead of being lost.
+            synchronized (index) {
+                if (!index.loaded) {
+                    load(universityId, index);
+                    index.loaded = true;
+                    // Unknown ids must not leave an index behind, or the map grows with every typo.
+                    if (index.size() == 0 && !univRepo.existsById(universityId)) {
+                        indexes.remove(universityId, index);
+                    }
+                }
+            }
+            evictIfNeeded();
+        }
+        return index;
+    }
+
+    // Evicts least recently used indexes until under budget; the newest index always
+    // stays. Indexes still loading are skipped, their size is not known yet.
+    private void evictIfNeeded() {
+        synchronized (evictLock) {
+            while (getResidentBytes() > getMemoryBudgetBytes() && indexes.size() > 1) {
+                Map.Entry<Long, PrefixIndex> oldest = null;
+                long newest = Long.MIN_VALUE;
+                for (Map.Entry<Long, PrefixIndex> entry : indexes.entrySet()) {
+                    PrefixIndex index = entry.getValue();
+                    newest = Math.max(newest, index.getLastAccess());
+                    if (index.loaded && (oldest == null || index.getLastAccess() < oldest.getValue().getLastAccess())) {
+                        oldest = entry;
+                    }
+                }
+                if (oldest == null || oldest.getValue().getLastAccess() == newest) return;
+                indexes.remove(oldest.getKey(), oldest.getValue());
+                evictions.increment();
+            }
+        }
+    }
+
+    private void load(Long universityId, PrefixIndex index) {
+        long start = System.nanoTime();
+        Map<Long, List<String>> topics = new HashMap<>();
+        for (Object[] row : topicRepo.findActiveTopicRowsByUniversity(universityId)) {
+            topics.computeIfAbsent(((Number) row[0]).longValue(), k -> new ArrayList<>()).add((String) row[1]);
+        }
+        List<PrefixIndex.Entry> entries = new ArrayList<>();
+        for (Course course : courseRepo.findByUniversityIdAndActiveTrue(universityId)) {
+            entries.add(PrefixIndex.entry(course.getId(), course.getCourseCode(), course.getCourseName(),
+                    topics.getOrDefault(course.getId(), List.of())));
+        }
+        index.putAll(entries);
+        log.debug("Built autocomplete index for university {}: {} courses, {} terms in {} ms", universityId,
+                index.size(), index.termCount(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void refresh(Long courseId, Long universityId) {
+        if (courseId == null) return;
+        synchronized (courseLocks[Math.floorMod(courseId.hashCode(), COURSE_STRIPES)]) {
+            if ((universityId == null || !indexes.containsKey(universityId)) && indexes.values().stream().noneMatch(i -> i.contains(courseId))) {
+                return;
+            }
+            Course course = courseRepo.findById(courseId).filter(Course::isActive).orElse(null);
+            Long owner = course == null || course.getUniversity() == null ? null : course.getUniversity().getId();
+            List<String> topicNames = course == null ? List.of()
+                    : topicRepo.findByCourseId(courseId).stream().map(CourseContentTopic::getTopicName).toList();
+            for (Map.Entry<Long, PrefixIndex> entry : indexes.entrySet()) {
+                PrefixIndex index = entry.getValue();
+                synchronized (index) {
+                    if (!index.loaded) continue;
+                    if (entry.getKey().equals(owner)) {
+                        index.put(courseId, course.getCourseCode(), course.getCourseName(), topicNames);
+                    } else {
+                        // Deactivated, deleted, or moved to another university.
+                        index.remove(courseId);
+                    }
+                }
+            }
+        }
+    }
+
+    private static String field(char tag) {
+        return switch (tag) {
+            case PrefixIndex.CODE -> "code";
+            case PrefixIndex.TOPIC -> "topic";
+            default -> "name";
+        };
+    }
+}
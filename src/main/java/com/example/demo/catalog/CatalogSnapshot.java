@@ -0,0 +1,143 @@
+package com.example.demo.catalog;
+
+import com.example.demo.evaluation.TopicVector;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+public class CatalogSnapshot {
+    public static final int MAGIC = 0x43534E50; // "CSNP"
+    public static final int VERSION = 2;
+    public static final int HEADER_SIZE = 72;
+    public static final int COURSE_RECORD_SIZE = 40;
+    public static final long NO_UNIVERSITY = -1L;
+    public static final int NO_STRING = -1;
+
+    private final Path path;
+    private final int courseCount;
+    private final int entryCount;
+    private final long changeWatermark;
+    private final long exportedAt;
+    private final ByteBuffer courses;
+    // Copied out of the mapping (12 bytes per entry) so overlaps run on plain array
+    // slices through TopicVector, the same code every other scoring path uses.
+    private final int[] topicIds;
+    private final double[] weights;
+    private final ByteBuffer strings;
+    private final String[] topicNames;
+    private final Map<String, Integer> topicIndex;
+
+    private CatalogSnapshot(Path path, MappedByteBuffer buffer) {
+        this.path = path;
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a catalog snapshot: " + path);
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IllegalArgumentException("Unsupported catalog snapshot version: " + buffer.getInt(4));
+        }
+        this.courseCount = buffer.getInt(8);
+        int topicCount = buffer.getInt(12);
+        this.entryCount = buffer.getInt(16);
+        int dictOffset = (int) buffer.getLong(20);
+        int courseOffset = (int) buffer.getLong(28);
+        int entryOffset = (int) buffer.getLong(36);
+        int stringOffset = (int) buffer.getLong(44);
+        this.changeWatermark = buffer.getLong(52);
+        this.exportedAt = buffer.getLong(60);
+
+        this.courses = slice(buffer, courseOffset, courseCount * COURSE_RECORD_SIZE);
+        this.topicIds = new int[entryCount];
+        slice(buffer, entryOffset, entryCount * 4).asIntBuffer().get(topicIds);
+        this.weights = new double[entryCount];
+        slice(buffer, entryOffset + entryCount * 4, entryCount * 8).asDoubleBuffer().get(weights);
+        this.strings = slice(buffer, stringOffset, buffer.capacity() - stringOffset);
+
+        ByteBuffer dict = slice(buffer, dictOffset, topicCount * 4);
+        this.topicNames = new String[topicCount];
+        this.topicIndex = new HashMap<>(topicCount * 2);
+        for (int i = 0; i < topicCount; i++) {
+            topicNames[i] = readString(dict.getInt(i * 4));
+            topicIndex.put(topicNames[i], i);
+        }
+    }
+
+    public static CatalogSnapshot open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Catalog snapshot larger than 2GB is not supported: " + path);
+            }
+            return new CatalogSnapshot(path, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    private static ByteBuffer slice(ByteBuffer buffer, int offset, int length) {
+        return buffer.duplicate().position(offset).limit(offset + length).slice();
+    }
+
+    public Path getPath() { return path; }
+    public int getCourseCount() { return courseCount; }
+    public int getEntryCount() { return entryCount; }
+    public int getTopicCount() { return topicNames.length; }
+    public long getChangeWatermark() { return changeWatermark; }
+    public long getExportedAt() { return exportedAt; }
+
+    public int indexOf(long courseId) {
+        int low = 0;
+        int high = courseCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long id = courses.getLong(mid * COURSE_RECORD_SIZE);
+            if (id < courseId) {
+                low = mid + 1;
+            } else if (id > courseId) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    public long courseId(int index) { return courses.getLong(index * COURSE_RECORD_SIZE); }
+    public long universityId(int index) { return courses.getLong(index * COURSE_RECORD_SIZE + 8); }
+    public int creditHours(int index) { return courses.getInt(index * COURSE_RECORD_SIZE + 16); }
+    public boolean isActive(int index) { return courses.getInt(index * COURSE_RECORD_SIZE + 20) != 0; }
+    public int entryStart(int index) { return courses.getInt(index * COURSE_RECORD_SIZE + 24); }
+    public int entryLength(int index) { return courses.getInt(index * COURSE_RECORD_SIZE + 28); }
+    public String courseCode(int index) { return readString(courses.getInt(index * COURSE_RECORD_SIZE + 32)); }
+    public String courseName(int index) { return readString(courses.getInt(index * COURSE_RECORD_SIZE + 36)); }
+
+    public int topicId(String topicName) {
+        Integer id = topicIndex.get(topicName);
+        return id == null ? -1 : id;
+    }
+
+    public String topicName(int topicId) {
+        return topicNames[topicId];
+    }
+
+    // Shared entry arrays; a course's topics are [entryStart, entryStart + entryLength).
+    int[] entryTopicIds() { return topicIds; }
+    double[] entryWeights() { return weights; }
+
+    public double overlap(int sourceIndex, int targetIndex) {
+        int sStart = entryStart(sourceIndex);
+        int tStart = entryStart(targetIndex);
+        return TopicVector.overlap(topicIds, weights, sStart, sStart + entryLength(sourceIndex),
+                topicIds, weights, tStart, tStart + entryLength(targetIndex));
+    }
+
+    private String readString(int ref) {
+        if (ref == NO_STRING) return null;
+        int length = strings.getInt(ref);
+        byte[] bytes = new byte[length];
+        strings.get(ref + 4, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,221 @@
+package com.example.demo.catalog;
+
+import com.example.demo.changefeed.ChangeEventListener;
+import com.example.demo.entity.ChangeEvent;
+import com.example.demo.evaluation.TopicVector;
+import com.example.demo.repository.ChangeEventRepository;
+import com.example.demo.repository.CourseContentTopicRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Maps the snapshot at boot rather than on the first evaluation request.
+@Lazy(false)
+@Service
+public class CatalogSnapshotService implements ChangeEventListener {
+    private static final Logger log = LoggerFactory.getLogger(CatalogSnapshotService.class);
+    private static final int REPLAY_BATCH = 500;
+
+    @Autowired
+    private CatalogSnapshotWriter writer;
+    @Autowired
+    private CourseContentTopicRepository topicRepo;
+    @Autowired
+    private ChangeEventRepository changeRepo;
+
+    @Value("${catalog.snapshot.enabled:false}")
+    private boolean enabled;
+    @Value("${catalog.snapshot.path:catalog.snapshot}")
+    private String snapshotPath;
+
+    @Value("${catalog.snapshot.replay-lookback-ms:60000}")
+    private long replayLookbackMs;
+    @Value("${changefeed.retention-hours:24}")
+    private long retentionHours;
+
+    // Snapshot and the deltas replayed on top of it are swapped together on reload.
+    private volatile State state;
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) return;
+        Path path = Paths.get(snapshotPath);
+        if (!Files.exists(path)) {
+            log.warn("Catalog snapshot {} not found; evaluation reads topics from the database", path);
+            return;
+        }
+        try {
+            load(path);
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to map catalog snapshot {}", path, e);
+        }
+    }
+
+    public boolean isLoaded() {
+        return state != null;
+    }
+
+    public CatalogSnapshot getSnapshot() {
+        State current = state;
+        return current == null ? null : current.snapshot;
+    }
+
+    public int getDeltaCount() {
+        State current = state;
+        return current == null ? 0 : current.deltas.size();
+    }
+
+    public synchronized void exportAndReload() throws IOException {
+        Path path = Paths.get(snapshotPath);
+        writer.export(path);
+        load(path);
+    }
+
+    public synchronized void reload() throws IOException {
+        load(Paths.get(snapshotPath));
+    }
+
+    private void load(Path path) throws IOException {
+        long start = System.nanoTime();
+        CatalogSnapshot loaded = CatalogSnapshot.open(path);
+        if (!replayable(loaded)) {
+            throw new IllegalStateException("Catalog snapshot " + path
+                    + " is older than the change feed retention; export a new one");
+        }
+        State next = new State(loaded);
+        state = next;
+        // Installed before the replay query, so a commit that applied its change to the
+        // previous state is still picked up here. In-flight transactions at export time
+        // can commit ids below the watermark, hence the lookback; re-applying is idempotent.
+        Instant since = Instant.ofEpochMilli(loaded.getExportedAt()).minusMillis(replayLookbackMs);
+        List<Long> changed = changeRepo.findTopicCourseIdsSince(loaded.getChangeWatermark(), since);
+        for (int i = 0; i < changed.size(); i += REPLAY_BATCH) {
+            refreshTopics(next, changed.subList(i, Math.min(changed.size(), i + REPLAY_BATCH)));
+        }
+        log.info("Mapped catalog snapshot {}: {} courses, {} topics, {} entries, {} courses replayed after event {} in {} ms",
+                path, loaded.getCourseCount(), loaded.getTopicCount(), loaded.getEntryCount(), changed.size(),
+                loaded.getChangeWatermark(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // Events past the watermark may already be purged once the snapshot outlives the retention.
+    private boolean replayable(CatalogSnapshot loaded) {
+        long ageMs = System.currentTimeMillis() - loaded.getExportedAt();
+        if (ageMs < Duration.ofHours(retentionHours).toMillis()) return true;
+        long oldest = changeRepo.findMinId();
+        return oldest > 0 && oldest <= loaded.getChangeWatermark() + 1;
+    }
+
+    // Topic rows are read after the writing transaction commits, so a rollback leaves no delta behind.
+    private void refreshTopics(Long courseId) {
+        if (courseId == null) return;
+        State current = state;
+        if (current != null) {
+            refreshTopics(current, List.of(courseId));
+        }
+    }
+
+    private void refreshTopics(State current, List<Long> courseIds) {
+        Map<Long, List<Object[]>> byCourse = new HashMap<>();
+        for (Object[] row : topicRepo.findTopicRowsByCourseIds(courseIds)) {
+            byCourse.computeIfAbsent(((Number) row[0]).longValue(), k -> new ArrayList<>()).add(row);
+        }
+        for (Long courseId : courseIds) {
+            List<Object[]> rows = byCourse.getOrDefault(courseId, List.of());
+            int[] ids = new int[rows.size()];
+            double[] weights = new double[rows.size()];
+            for (int i = 0; i < ids.length; i++) {
+                Object[] row = rows.get(i);
+                ids[i] = current.topicId((String) row[1]);
+                weights[i] = row[2] == null ? 0.0 : ((Number) row[2]).doubleValue();
+            }
+            TopicVector.sort(ids, weights, null, 0, ids.length);
+            current.deltas.put(courseId, new TopicDelta(ids, weights, 0, ids.length));
+        }
+    }
+
+    @Override
+    public void onChange(ChangeEvent event) {
+        if (ChangeEvent.TOPIC.equals(event.getEntityType())) {
+            refreshTopics(event.getCourseId());
+        }
+    }
+
+    public Double overlap(Long sourceCourseId, Long targetCourseId) {
+        State loaded = state;
+        if (loaded == null) return null;
+        CatalogSnapshot current = loaded.snapshot;
+        TopicDelta sourceDelta = loaded.deltas.get(sourceCourseId);
+        TopicDelta targetDelta = loaded.deltas.get(targetCourseId);
+        int sourceIndex = sourceDelta == null ? current.indexOf(sourceCourseId) : -1;
+        int targetIndex = targetDelta == null ? current.indexOf(targetCourseId) : -1;
+        if ((sourceDelta == null && sourceIndex < 0) || (targetDelta == null && targetIndex < 0)) {
+            return null;
+        }
+        if (sourceDelta == null && targetDelta == null) {
+            return current.overlap(sourceIndex, targetIndex);
+        }
+        TopicDelta source = sourceDelta != null ? sourceDelta : TopicDelta.of(current, sourceIndex);
+        TopicDelta target = targetDelta != null ? targetDelta : TopicDelta.of(current, targetIndex);
+        return source.overlap(target);
+    }
+
+    private static final class State {
+        private final CatalogSnapshot snapshot;
+        private final Map<Long, TopicDelta> deltas = new ConcurrentHashMap<>();
+        private final Map<String, Integer> extraTopics = new ConcurrentHashMap<>();
+        private final AtomicInteger nextExtraTopic;
+
+        State(CatalogSnapshot snapshot) {
+            this.snapshot = snapshot;
+            this.nextExtraTopic = new AtomicInteger(snapshot.getTopicCount());
+        }
+
+        int topicId(String name) {
+            String key = name == null ? "" : name.toLowerCase(Locale.ROOT);
+            int id = snapshot.topicId(key);
+            if (id >= 0) return id;
+            return extraTopics.computeIfAbsent(key, k -> nextExtraTopic.getAndIncrement());
+        }
+    }
+
+    // A course's topics as a slice of either its own arrays or the snapshot's entries.
+    private static final class TopicDelta {
+        private final int[] ids;
+        private final double[] weights;
+        private final int from;
+        private final int to;
+
+        TopicDelta(int[] ids, double[] weights, int from, int to) {
+            this.ids = ids;
+            this.weights = weights;
+            this.from = from;
+            this.to = to;
+        }
+
+        static TopicDelta of(CatalogSnapshot snapshot, int index) {
+            int start = snapshot.entryStart(index);
+            return new TopicDelta(snapshot.entryTopicIds(), snapshot.entryWeights(), start, start + snapshot.entryLength(index));
+        }
+
+        double overlap(TopicDelta target) {
+            return TopicVector.overlap(ids, weights, from, to, target.ids, target.weights, target.from, target.to);
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.example.demo.catalog;
+
+import com.example.demo.evaluation.TopicVector;
+import com.example.demo.repository.ChangeEventRepository;
+import com.example.demo.repository.CourseContentTopicRepository;
+import com.example.demo.repository.CourseRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+@Component
+public class CatalogSnapshotWriter {
+    @Autowired
+    private CourseRepository courseRepo;
+    @Autowired
+    private CourseContentTopicRepository topicRepo;
+    @Autowired
+    private ChangeEventRepository changeRepo;
+
+    // The watermark is the first read, so it fixes the transaction's snapshot: every
+    // change event above it is replayed on load.
+    @Transactional(readOnly = true)
+    public void export(Path target) throws IOException {
+        Builder builder = new Builder();
+        builder.changeWatermark = changeRepo.findMaxId();
+        builder.exportedAt = System.currentTimeMillis();
+        try (Stream<Object[]> rows = courseRepo.streamSnapshotRows()) {
+            rows.forEach(builder::addCourse);
+        }
+        try (Stream<Object[]> rows = topicRepo.streamSnapshotRows()) {
+            Iterator<Object[]> it = rows.iterator();
+            while (it.hasNext()) {
+                builder.addTopic(it.next());
+            }
+        }
+        builder.finish();
+
+        Path dir = target.toAbsolutePath().getParent();
+        if (dir != null) {
+            Files.createDirectories(dir);
+        }
+        Path tmp = Files.createTempFile(dir, "catalog", ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp), 1 << 16))) {
+            builder.writeTo(out);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tmp);
+            throw e;
+        }
+        Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static final class Builder {
+        private final ByteArrayOutputStream stringBytes = new ByteArrayOutputStream();
+        private final DataOutputStream stringOut = new DataOutputStream(stringBytes);
+        private final Map<String, Integer> topicIndex = new HashMap<>();
+        private int[] topicRefs = new int[1024];
+
+        private int courseCount;
+        private long[] courseIds = new long[1024];
+        private long[] universityIds = new long[1024];
+        private int[] creditHours = new int[1024];
+        private boolean[] active = new boolean[1024];
+        private int[] codeRefs = new int[1024];
+        private int[] nameRefs = new int[1024];
+        private int[] entryStarts = new int[1024];
+        private int[] entryLengths = new int[1024];
+
+        private int entryCount;
+        private int[] entryTopics = new int[4096];
+        private double[] entryWeights = new double[4096];
+
+        private int currentCourse = -1;
+        private long changeWatermark;
+        private long exportedAt;
+
+        void addCourse(Object[] row) {
+            if (courseCount == courseIds.length) {
+                int size = courseCount * 2;
+                courseIds = Arrays.copyOf(courseIds, size);
+                universityIds = Arrays.copyOf(universityIds, size);
+                creditHours = Arrays.copyOf(creditHours, size);
+                active = Arrays.copyOf(active, size);
+                codeRefs = Arrays.copyOf(codeRefs, size);
+                nameRefs = Arrays.copyOf(nameRefs, size);
+                entryStarts = Arrays.copyOf(entryStarts, size);
+                entryLengths = Arrays.copyOf(entryLengths, size);
+            }
+            courseIds[courseCount] = ((Number) row[0]).longValue();
+            universityIds[courseCount] = row[1] == null ? CatalogSnapshot.NO_UNIVERSITY : ((Number) row[1]).longValue();
+            creditHours[courseCount] = ((Number) row[2]).intValue();
+            active[courseCount] = Boolean.TRUE.equals(row[3]);
+            codeRefs[courseCount] = intern((String) row[4]);
+            nameRefs[courseCount] = intern((String) row[5]);
+            courseCount++;
+        }
+
+        void addTopic(Object[] row) {
+            long courseId = ((Number) row[0]).longValue();
+            if (currentCourse < 0 || courseIds[currentCourse] != courseId) {
+                closeCourse();
+                currentCourse = Arrays.binarySearch(courseIds, 0, courseCount, courseId);
+                if (currentCourse < 0) {
+                    throw new IllegalStateException("Topic references unknown course " + courseId);
+                }
+                entryStarts[currentCourse] = entryCount;
+            }
+            if (entryCount == entryTopics.length) {
+                entryTopics = Arrays.copyOf(entryTopics, entryCount * 2);
+                entryWeights = Arrays.copyOf(entryWeights, entryCount * 2);
+            }
+            entryTopics[entryCount] = topicId((String) row[1]);
+            entryWeights[entryCount] = row[2] == null ? 0.0 : ((Number) row[2]).doubleValue();
+            entryCount++;
+        }
+
+        void finish() {
+            closeCourse();
+        }
+
+        private void closeCourse() {
+            if (currentCourse < 0) return;
+            int start = entryStarts[currentCourse];
+            entryLengths[currentCourse] = entryCount - start;
+            TopicVector.sort(entryTopics, entryWeights, null, start, entryCount);
+            currentCourse = -1;
+        }
+
+        private int topicId(String name) {
+            String key = name == null ? "" : name.toLowerCase(Locale.ROOT);
+            Integer id = topicIndex.get(key);
+            if (id == null) {
+                id = topicIndex.size();
+                if (id == topicRefs.length) {
+                    topicRefs = Arrays.copyOf(topicRefs, id * 2);
+                }
+                topicRefs[id] = intern(key);
+                topicIndex.put(key, id);
+            }
+            return id;
+        }
+
+        private int intern(String value) {
+            if (value == null) return CatalogSnapshot.NO_STRING;
+            try {
+                int ref = stringOut.size();
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                stringOut.writeInt(bytes.length);
+                stringOut.write(bytes);
+                return ref;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void writeTo(DataOutputStream out) throws IOException {
+            int topicCount = topicIndex.size();
+            long dictOffset = CatalogSnapshot.HEADER_SIZE;
+            long courseOffset = dictOffset + topicCount * 4L;
+            long entryOffset = courseOffset + (long) courseCount * CatalogSnapshot.COURSE_RECORD_SIZE;
+            long stringOffset = entryOffset + entryCount * 12L;
+            if (stringOffset + stringBytes.size() > Integer.MAX_VALUE) {
+                throw new IOException("Catalog snapshot would exceed 2GB");
+            }
+
+            out.writeInt(CatalogSnapshot.MAGIC);
+            out.writeInt(CatalogSnapshot.VERSION);
+            out.writeInt(courseCount);
+            out.writeInt(topicCount);
+            out.writeInt(entryCount);
+            out.writeLong(dictOffset);
+            out.writeLong(courseOffset);
+            out.writeLong(entryOffset);
+            out.writeLong(stringOffset);
+            out.writeLong(changeWatermark);
+            out.writeLong(exportedAt);
+            out.write(new byte[CatalogSnapshot.HEADER_SIZE - 68]);
+
+            for (int i = 0; i < topicCount; i++) {
+                out.writeInt(topicRefs[i]);
+            }
+            for (int i = 0; i < courseCount; i++) {
+                out.writeLong(courseIds[i]);
+                out.writeLong(universityIds[i]);
+                out.writeInt(creditHours[i]);
+                out.writeInt(active[i] ? 1 : 0);
+                out.writeInt(entryStarts[i]);
+                out.writeInt(entryLengths[i]);
+                out.writeInt(codeRefs[i]);
+                out.writeInt(nameRefs[i]);
+            }
+            for (int i = 0; i < entryCount; i++) {
+                out.writeInt(entryTopics[i]);
+            }
+            for (int i = 0; i < entryCount; i++) {
+                out.writeDouble(entryWeights[i]);
+            }
+            stringBytes.writeTo(out);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.demo.catalog;
+
+import com.example.demo.changefeed.ChangeEventListener;
+import com.example.demo.entity.ChangeEvent;
+import com.example.demo.repository.CourseContentTopicRepository;
+import com.example.demo.repository.CourseRepository;
+import com.example.demo.repository.TransferRuleRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// ETags are derived from the rows' updated_at columns (and the embedded universities'),
+// so every node and every restart computes the same tag for the same data. Versions are
+// cached and dropped when a change commits locally or arrives through the change feed.
+@Component
+public class CatalogVersions implements ChangeEventListener {
+    private static final int MAX_CACHED = 100_000;
+
+    @Autowired
+    private CourseRepository courseRepo;
+    @Autowired
+    private CourseContentTopicRepository topicRepo;
+    @Autowired
+    private TransferRuleRepository ruleRepo;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<String, String> cache = new ConcurrentHashMap<>();
+    // Bumped before every invalidation; a load that overlapped one is not cached.
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public String courseEtag(Long courseId) {
+        return cached("c" + courseId, () -> version(courseRepo.findVersionRow(courseId)));
+    }
+
+    public String universityCoursesEtag(Long universityId) {
+        return cached("u" + universityId, () -> version(courseRepo.findUniversityCoursesVersionRow(universityId)));
+    }
+
+    public String courseTopicsEtag(Long courseId) {
+        return cached("t" + courseId, () -> version(topicRepo.findVersionRow(courseId)));
+    }
+
+    public String ruleEtag(Long ruleId) {
+        return cached("r" + ruleId, () -> version(ruleRepo.findVersionRow(ruleId)));
+    }
+
+    public String rulePairEtag(Long sourceId, Long targetId) {
+        return cached("p" + sourceId + ":" + targetId, () -> version(ruleRepo.findPairVersionRow(sourceId, targetId)));
+    }
+
+    public void recordHit(String endpoint, boolean notModified) {
+        meterRegistry.counter("http.cache.requests", "endpoint", endpoint,
+                "result", notModified ? "not_modified" : "full").increment();
+    }
+
+    // Runs once the write has committed (locally or on another node), so a concurrent read
+    // cannot cache the pre-commit version again. Topic lists embed the course, and courses,
+    // topics and rules all embed universities; renames are rare enough to drop everything.
+    @Override
+    public void onChange(ChangeEvent event) {
+        switch (event.getEntityType()) {
+            case ChangeEvent.COURSE -> invalidate("c" + event.getCourseId(), "t" + event.getCourseId(),
+                    "u" + event.getUniversityId());
+            case ChangeEvent.TOPIC -> invalidate("t" + event.getCourseId());
+            case ChangeEvent.RULE -> invalidate("r" + event.getEntityId(),
+                    "p" + event.getUniversityId() + ":" + event.getTargetUniversityId());
+            case ChangeEvent.UNIVERSITY -> {
+                invalidations.incrementAndGet();
+                cache.clear();
+            }
+            default -> { }
+        }
+    }
+
+    private String cached(String key, Supplier<String> load) {
+        String version = cache.get(key);
+        if (version != null) {
+            return version;
+        }
+        long generation = invalidations.get();
+        version = "\"" + key + "-" + load.get() + "\"";
+        if (invalidations.get() == generation) {
+            if (cache.size() >= MAX_CACHED) {
+                cache.clear();
+            }
+            cache.putIfAbsent(key, version);
+            // An invalidation between the check and the put must not leave this entry behind.
+            if (invalidations.get() != generation) {
+                cache.remove(key, version);
+            }
+        }
+        return version;
+    }
+
+    private void invalidate(String... keys) {
+        invalidations.incrementAndGet();
+        for (String key : keys) {
+            cache.remove(key);
+        }
+    }
+
+    // Timestamps at microsecond precision and counts, in base 36; missing rows give "0".
+    private static String version(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return "0";
+        }
+        StringBuilder version = new StringBuilder();
+        for (Object value : rows.get(0)) {
+            if (version.length() > 0) {
+                version.append('.');
+            }
+            long part;
+            if (value instanceof Instant instant) {
+                part = instant.getEpochSecond() * 1_000_000 + instant.getNano() / 1_000;
+            } else if (value instanceof Number number) {
+                part = number.longValue();
+            } else {
+                part = 0;
+            }
+            version.append(Long.toString(part, 36));
+        }
+        return version.toString();
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.demo.catalog;
+
+import com.example.demo.entity.Course;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+public final class CourseRecord {
+    private final long id;
+    private final long universityId;
+    private final String courseCode;
+    private final String courseName;
+    private final String department;
+    private final int creditHours;
+    // Interned once when the record is built, so evaluations do not look the name up.
+    private final int departmentId;
+
+    public CourseRecord(long id, long universityId, String courseCode, String courseName, String department,
+                        int creditHours, int departmentId) {
+        this.id = id;
+        this.universityId = universityId;
+        this.courseCode = courseCode;
+        this.courseName = courseName;
+        this.department = department;
+        this.creditHours = creditHours;
+        this.departmentId = departmentId;
+    }
+
+    public static CourseRecord of(Course course, int departmentId) {
+        return new CourseRecord(course.getId(), course.getUniversity().getId(), course.getCourseCode(),
+                course.getCourseName(), course.getDepartment(), course.getCreditHours(), departmentId);
+    }
+
+    public long getId() { return id; }
+    public long getUniversityId() { return universityId; }
+    public String getCourseCode() { return courseCode; }
+    public String getCourseName() { return courseName; }
+    public String getDepartment() { return department; }
+    public int getCreditHours() { return creditHours; }
+    @JsonIgnore
+    public int getDepartmentId() { return departmentId; }
+
+    long estimatedBytes() {
+        return 56 + stringBytes(courseCode) + stringBytes(courseName) + stringBytes(department);
+    }
+
+    private static long stringBytes(String value) {
+        return value == null ? 0 : 40 + value.length();
+    }
+}
@@ -0,0 +1,213 @@
+package com.example.demo.catalog;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+// Autocomplete terms of one university. Each key is a field tag followed by a normalized
+// term; the skip list keeps keys sorted, so a prefix lookup is a range walk that can stop
+// after N courses. Tags are walked in rank order (code, name start, name word, topic).
+// Readers never lock; writers are serialized by AutocompleteIndex.
+final class PrefixIndex {
+    static final char CODE = 'c';
+    static final char NAME = 'n';
+    static final char NAME_WORD = 'w';
+    static final char TOPIC = 't';
+    private static final char[] RANK = {CODE, NAME, NAME_WORD, TOPIC};
+
+    record Entry(long courseId, String courseCode, String courseName, String[] keys) {}
+
+    record Match(Entry course, String key) {}
+
+    private final ConcurrentSkipListMap<String, long[]> terms = new ConcurrentSkipListMap<>();
+    private final Map<Long, Entry> courses = new ConcurrentHashMap<>();
+    volatile boolean loaded;
+    // Approximate footprint, kept up to date by the (serialized) writers.
+    private volatile long estimatedBytes = 64;
+    private volatile long lastAccess;
+
+    int size() {
+        return courses.size();
+    }
+
+    int termCount() {
+        return terms.size();
+    }
+
+    boolean contains(long courseId) {
+        return courses.containsKey(courseId);
+    }
+
+    long getEstimatedBytes() { return estimatedBytes; }
+    long getLastAccess() { return lastAccess; }
+    void touch(long tick) { lastAccess = tick; }
+
+    void put(long courseId, String courseCode, String courseName, List<String> topicNames) {
+        Entry entry = entry(courseId, courseCode, courseName, topicNames);
+        Entry previous = courses.put(courseId, entry);
+        estimatedBytes += estimatedBytes(entry) - (previous == null ? 0 : estimatedBytes(previous));
+        if (previous != null) {
+            for (String key : previous.keys()) {
+                if (Arrays.binarySearch(entry.keys(), key) < 0) terms.computeIfPresent(key, (k, ids) -> without(ids, courseId));
+            }
+        }
+        for (String key : entry.keys()) {
+            terms.merge(key, new long[] {courseId}, (ids, one) -> with(ids, courseId));
+        }
+    }
+
+    // Initial build: postings are collected per key and installed once, instead of
+    // copying the arrays of common words on every course.
+    void putAll(List<Entry> entries) {
+        Map<String, Postings> collected = new HashMap<>();
+        long bytes = 0;
+        for (Entry entry : entries) {
+            courses.put(entry.courseId(), entry);
+            bytes += estimatedBytes(entry);
+            for (String key : entry.keys()) {
+                collected.computeIfAbsent(key, k -> new Postings()).add(entry.courseId());
+            }
+        }
+        collected.forEach((key, postings) -> terms.put(key, postings.toSortedArray()));
+        estimatedBytes += bytes;
+    }
+
+    static Entry entry(long courseId, String courseCode, String courseName, List<String> topicNames) {
+        return new Entry(courseId, courseCode, courseName, keys(courseCode, courseName, topicNames));
+    }
+
+    void remove(long courseId) {
+        Entry previous = courses.remove(courseId);
+        if (previous == null) return;
+        estimatedBytes -= estimatedBytes(previous);
+        for (String key : previous.keys()) {
+            terms.computeIfPresent(key, (k, ids) -> without(ids, courseId));
+        }
+    }
+
+    List<Match> lookup(String query, int limit) {
+        String term = normalize(query);
+        String code = compact(query);
+        Map<Long, Match> matches = new LinkedHashMap<>();
+        for (char tag : RANK) {
+            String prefix = tag + (tag == CODE ? code : term);
+            if (prefix.length() == 1) continue;
+            NavigableMap<String, long[]> range = terms.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+            for (Map.Entry<String, long[]> hit : range.entrySet()) {
+                for (long courseId : hit.getValue()) {
+                    Entry course = courses.get(courseId);
+                    if (course != null) matches.putIfAbsent(courseId, new Match(course, hit.getKey()));
+                    if (matches.size() == limit) return new ArrayList<>(matches.values());
+                }
+            }
+        }
+        return new ArrayList<>(matches.values());
+    }
+
+    // The entry and its strings, plus a skip list node and a posting slot per key.
+    private static long estimatedBytes(Entry entry) {
+        long bytes = 96 + 2L * (length(entry.courseCode()) + length(entry.courseName()));
+        for (String key : entry.keys()) {
+            bytes += 104 + 2L * key.length();
+        }
+        return bytes;
+    }
+
+    private static int length(String text) {
+        return text == null ? 0 : text.length();
+    }
+
+    // Sorted, so an update can tell which of the old keys are still in use.
+    private static String[] keys(String courseCode, String courseName, List<String> topicNames) {
+        List<String> keys = new ArrayList<>();
+        String code = compact(courseCode);
+        if (!code.isEmpty()) keys.add(CODE + code);
+        addPhrase(keys, NAME, NAME_WORD, normalize(courseName));
+        for (String topic : topicNames) {
+            addPhrase(keys, TOPIC, TOPIC, normalize(topic));
+        }
+        return keys.stream().distinct().sorted().toArray(String[]::new);
+    }
+
+    private static void addPhrase(List<String> keys, char phraseTag, char wordTag, String phrase) {
+        if (phrase.isEmpty()) return;
+        keys.add(phraseTag + phrase);
+        int start = phrase.indexOf(' ') + 1;
+        while (start > 0) {
+            int end = phrase.indexOf(' ', start);
+            keys.add(wordTag + (end < 0 ? phrase.substring(start) : phrase.substring(start, end)));
+            start = end + 1;
+        }
+    }
+
+    private static long[] with(long[] ids, long courseId) {
+        int at = Arrays.binarySearch(ids, courseId);
+        if (at >= 0) return ids;
+        int insert = -(at + 1);
+        long[] next = new long[ids.length + 1];
+        System.arraycopy(ids, 0, next, 0, insert);
+        next[insert] = courseId;
+        System.arraycopy(ids, insert, next, insert + 1, ids.length - insert);
+        return next;
+    }
+
+    // Returning null drops the key from the map.
+    private static long[] without(long[] ids, long courseId) {
+        int at = Arrays.binarySearch(ids, courseId);
+        if (at < 0) return ids;
+        if (ids.length == 1) return null;
+        long[] next = new long[ids.length - 1];
+        System.arraycopy(ids, 0, next, 0, at);
+        System.arraycopy(ids, at + 1, next, at, ids.length - at - 1);
+        return next;
+    }
+
+    private static final class Postings {
+        private long[] ids = new long[4];
+        private int size;
+
+        void add(long id) {
+            if (size == ids.length) ids = Arrays.copyOf(ids, size * 2);
+            ids[size++] = id;
+        }
+
+        long[] toSortedArray() {
+            long[] sorted = Arrays.copyOf(ids, size);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+
+    // Lower case, accents stripped, runs of anything but letters and digits collapsed to one space.
+    static String normalize(String text) {
+        if (text == null) return "";
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        StringBuilder out = new StringBuilder(decomposed.length());
+        boolean space = false;
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) continue;
+            if (Character.isLetterOrDigit(c)) {
+                if (space && out.length() > 0) out.append(' ');
+                out.append(Character.toLowerCase(c));
+                space = false;
+            } else {
+                space = true;
+            }
+        }
+        return out.toString().toLowerCase(Locale.ROOT);
+    }
+
+    // Course codes are matched without separators, so "CS-101", "cs 101" and "CS101" agree.
+    static String compact(String text) {
+        return normalize(text).replace(" ", "");
+    }
+}
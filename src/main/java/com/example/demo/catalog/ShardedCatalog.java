@@ -0,0 +1,269 @@
+package com.example.demo.catalog;
+
+import com.example.demo.changefeed.ChangeEventListener;
+import com.example.demo.entity.ChangeEvent;
+import com.example.demo.entity.Course;
+import com.example.demo.evaluation.TopicDictionary;
+import com.example.demo.evaluation.TopicVector;
+import com.example.demo.repository.CourseContentTopicRepository;
+import com.example.demo.repository.CourseRepository;
+import com.example.demo.repository.UniversityRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+@Component
+public class ShardedCatalog implements ChangeEventListener {
+    private static final Logger log = LoggerFactory.getLogger(ShardedCatalog.class);
+
+    @Autowired
+    private CourseRepository courseRepo;
+    @Autowired
+    private CourseContentTopicRepository topicRepo;
+    @Autowired
+    private UniversityRepository univRepo;
+    @Autowired
+    private TopicDictionary dictionary;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${catalog.shards.memory-budget-mb:64}")
+    private long memoryBudgetMb;
+    @Value("${catalog.shards.parallelism:4}")
+    private int parallelism;
+
+    // Readers only ever call get(); every put/remove happens under writeLock.
+    private final Map<Long, UniversityShard> shards = new ConcurrentHashMap<>();
+    private final Map<Long, CompletableFuture<UniversityShard>> loading = new ConcurrentHashMap<>();
+    // Per-university write counts, so a load that raced with a write is not cached.
+    private final Map<Long, AtomicLong> writes = new ConcurrentHashMap<>();
+    // Courses changed since the last refresh of their resident shard was installed.
+    private final Map<Long, Set<Long>> pendingCourses = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicLong residentBytes = new AtomicLong();
+
+    private ForkJoinPool pool;
+    private Counter hits;
+    private Counter misses;
+    private Counter evictions;
+
+    @PostConstruct
+    public void init() {
+        pool = new ForkJoinPool(Math.max(1, parallelism));
+        hits = meterRegistry.counter("catalog.shards.requests", "result", "hit");
+        misses = meterRegistry.counter("catalog.shards.requests", "result", "miss");
+        evictions = meterRegistry.counter("catalog.shards.evictions");
+        meterRegistry.gauge("catalog.shards.resident", shards, Map::size);
+        meterRegistry.gauge("catalog.shards.bytes", residentBytes, AtomicLong::get);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    public UniversityShard shard(Long universityId) {
+        UniversityShard shard = shards.get(universityId);
+        if (shard != null) {
+            hits.increment();
+            shard.touch(clock.incrementAndGet());
+            return shard;
+        }
+        misses.increment();
+        return load(universityId);
+    }
+
+    // Department id from the course's resident shard record; only interns the name when
+    // the shard is not loaded. Never loads a shard, so non-blocking callers can use it.
+    public int departmentId(Long universityId, Long courseId, String department) {
+        UniversityShard shard = universityId == null ? null : shards.get(universityId);
+        int index = shard == null || courseId == null ? -1 : shard.indexOf(courseId);
+        return index >= 0 ? shard.course(index).getDepartmentId() : dictionary.departmentId(department);
+    }
+
+    // The course's topic vector if its shard is resident, otherwise null. Never loads a
+    // shard: evaluating one pair must not pull in two whole universities.
+    public TopicVector residentVector(Long universityId, Long courseId) {
+        UniversityShard shard = universityId == null ? null : shards.get(universityId);
+        int index = shard == null || courseId == null ? -1 : shard.indexOf(courseId);
+        if (index < 0) return null;
+        hits.increment();
+        shard.touch(clock.incrementAndGet());
+        return shard.vector(index);
+    }
+
+    public List<UniversityShard> residentShards() {
+        return new ArrayList<>(shards.values());
+    }
+
+    public long getResidentBytes() {
+        return residentBytes.get();
+    }
+
+    public long getMemoryBudgetBytes() {
+        return memoryBudgetMb * 1024 * 1024;
+    }
+
+    // Applies fn to each university's shard on the catalog pool; results keep the input order.
+    public <R> List<R> fanOut(Collection<Long> universityIds, Function<UniversityShard, R> fn) {
+        List<CompletableFuture<R>> futures = new ArrayList<>();
+        for (Long universityId : universityIds) {
+            futures.add(CompletableFuture.supplyAsync(() -> fn.apply(shard(universityId)), pool));
+        }
+        List<R> results = new ArrayList<>(futures.size());
+        try {
+            for (CompletableFuture<R> future : futures) {
+                results.add(future.join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+        return results;
+    }
+
+    private UniversityShard load(Long universityId) {
+        CompletableFuture<UniversityShard> mine = new CompletableFuture<>();
+        CompletableFuture<UniversityShard> pending = loading.putIfAbsent(universityId, mine);
+        if (pending != null) {
+            return pending.join();
+        }
+        try {
+            long writesBefore = writeCount(universityId);
+            UniversityShard shard = build(universityId);
+            shard.touch(clock.incrementAndGet());
+            // Only known universities get a resident shard, so arbitrary ids cannot fill the map.
+            boolean cache = shard.size() > 0 || univRepo.existsById(universityId);
+            synchronized (writeLock) {
+                if (cache && writeCount(universityId) == writesBefore) {
+                    install(universityId, shard);
+                    evictIfNeeded();
+                }
+            }
+            mine.complete(shard);
+            return shard;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(universityId, mine);
+        }
+    }
+
+    private UniversityShard build(Long universityId) {
+        long start = System.nanoTime();
+        List<Course> courses = courseRepo.findByUniversityIdAndActiveTrue(universityId);
+        Map<Long, TopicVector> vectors = TopicVector.fromRows(topicRepo.findActiveTopicRowsByUniversity(universityId), dictionary);
+        CourseRecord[] records = new CourseRecord[courses.size()];
+        TopicVector[] profiles = new TopicVector[courses.size()];
+        for (int i = 0; i < records.length; i++) {
+            Course course = courses.get(i);
+            records[i] = CourseRecord.of(course, dictionary.departmentId(course.getDepartment()));
+            profiles[i] = vectors.getOrDefault(course.getId(), TopicVector.EMPTY);
+        }
+        UniversityShard shard = new UniversityShard(universityId, records, profiles);
+        log.debug("Loaded catalog shard for university {}: {} courses, ~{} KB in {} ms", universityId,
+                records.length, shard.getEstimatedBytes() / 1024, (System.nanoTime() - start) / 1_000_000);
+        return shard;
+    }
+
+    @Override
+    public void onChange(ChangeEvent event) {
+        if (ChangeEvent.COURSE.equals(event.getEntityType()) || ChangeEvent.TOPIC.equals(event.getEntityType())) {
+            Long universityId = event.getUniversityId();
+            if (universityId == null && event.getCourseId() != null) {
+                for (UniversityShard shard : shards.values()) {
+                    if (shard.indexOf(event.getCourseId()) >= 0) {
+                        universityId = shard.getUniversityId();
+                        break;
+                    }
+                }
+            }
+            refresh(event.getCourseId(), universityId);
+        }
+    }
+
+    // Reads happen outside the writer lock. Only the latest refresh of a university
+    // installs: it started after every earlier one, so it also re-reads their courses.
+    private void refresh(Long courseId, Long universityId) {
+        if (courseId == null || universityId == null) return;
+        Set<Long> pending = pendingCourses.computeIfAbsent(universityId, k -> ConcurrentHashMap.newKeySet());
+        pending.add(courseId);
+        long ticket = writes.computeIfAbsent(universityId, k -> new AtomicLong()).incrementAndGet();
+        List<Long> courseIds = new ArrayList<>(pending);
+        if (!shards.containsKey(universityId)) {
+            // The bumped write count keeps any overlapping load from caching; a later load reads fresh.
+            pending.removeAll(courseIds);
+            return;
+        }
+        Map<Long, Course> courses = new HashMap<>();
+        for (Course course : courseRepo.findAllById(courseIds)) {
+            courses.put(course.getId(), course);
+        }
+        Map<Long, TopicVector> vectors = TopicVector.fromRows(topicRepo.findTopicRowsByCourseIds(courseIds), dictionary);
+        synchronized (writeLock) {
+            if (writeCount(universityId) != ticket) return;
+            pending.removeAll(courseIds);
+            UniversityShard current = shards.get(universityId);
+            if (current == null) return;
+            UniversityShard next = current;
+            for (Long id : courseIds) {
+                Course course = courses.get(id);
+                if (course == null || !course.isActive()) {
+                    next = next.without(id);
+                } else {
+                    next = next.with(CourseRecord.of(course, dictionary.departmentId(course.getDepartment())), vectors.getOrDefault(id, TopicVector.EMPTY));
+                }
+            }
+            if (next != current) {
+                install(universityId, next);
+                evictIfNeeded();
+            }
+        }
+    }
+
+    private void install(Long universityId, UniversityShard shard) {
+        UniversityShard previous = shards.put(universityId, shard);
+        residentBytes.addAndGet(shard.getEstimatedBytes() - (previous == null ? 0 : previous.getEstimatedBytes()));
+    }
+
+    // Evicts least recently used shards until under budget; the newest shard always stays.
+    private void evictIfNeeded() {
+        long budget = getMemoryBudgetBytes();
+        while (residentBytes.get() > budget && shards.size() > 1) {
+            Map.Entry<Long, UniversityShard> oldest = null;
+            for (Map.Entry<Long, UniversityShard> entry : shards.entrySet()) {
+                if (oldest == null || entry.getValue().getLastAccess() < oldest.getValue().getLastAccess()) {
+                    oldest = entry;
+                }
+            }
+            shards.remove(oldest.getKey());
+            residentBytes.addAndGet(-oldest.getValue().getEstimatedBytes());
+            evictions.increment();
+        }
+    }
+
+    private long writeCount(Long universityId) {
+        AtomicLong count = writes.get(universityId);
+        return count == null ? 0 : count.get();
+    }
+}
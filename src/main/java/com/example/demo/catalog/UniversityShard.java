@@ -0,0 +1,76 @@
+package com.example.demo.catalog;
+
+import com.example.demo.evaluation.TopicVector;
+import java.util.Arrays;
+
+// Active courses of one university. Immutable: writers build a copy and swap it in,
+// so readers never lock. Only the access stamp used for LRU eviction is mutable.
+public final class UniversityShard {
+    private final long universityId;
+    private final CourseRecord[] courses;
+    private final TopicVector[] vectors;
+    private final LongIntMap byId;
+    private final long estimatedBytes;
+    private volatile long lastAccess;
+
+    UniversityShard(long universityId, CourseRecord[] courses, TopicVector[] vectors) {
+        this.universityId = universityId;
+        this.courses = courses;
+        this.vectors = vectors;
+        this.byId = new LongIntMap(courses.length);
+        long bytes = 64 + byId.estimatedBytes();
+        for (int i = 0; i < courses.length; i++) {
+            byId.put(courses[i].getId(), i);
+            bytes += courses[i].estimatedBytes() + vectors[i].estimatedBytes();
+        }
+        this.estimatedBytes = bytes;
+    }
+
+    public long getUniversityId() { return universityId; }
+    public int size() { return courses.length; }
+    public CourseRecord course(int index) { return courses[index]; }
+    public TopicVector vector(int index) { return vectors[index]; }
+    public long getEstimatedBytes() { return estimatedBytes; }
+
+    public int indexOf(long courseId) {
+        return byId.get(courseId);
+    }
+
+    long getLastAccess() { return lastAccess; }
+    void touch(long tick) { lastAccess = tick; }
+
+    UniversityShard with(CourseRecord course, TopicVector vector) {
+        int index = indexOf(course.getId());
+        CourseRecord[] nextCourses;
+        TopicVector[] nextVectors;
+        if (index >= 0) {
+            nextCourses = courses.clone();
+            nextVectors = vectors.clone();
+        } else {
+            index = courses.length;
+            nextCourses = Arrays.copyOf(courses, index + 1);
+            nextVectors = Arrays.copyOf(vectors, index + 1);
+        }
+        nextCourses[index] = course;
+        nextVectors[index] = vector;
+        return copy(nextCourses, nextVectors);
+    }
+
+    UniversityShard without(long courseId) {
+        int index = indexOf(courseId);
+        if (index < 0) return this;
+        CourseRecord[] nextCourses = new CourseRecord[courses.length - 1];
+        TopicVector[] nextVectors = new TopicVector[vectors.length - 1];
+        System.arraycopy(courses, 0, nextCourses, 0, index);
+        System.arraycopy(courses, index + 1, nextCourses, index, courses.length - index - 1);
+        System.arraycopy(vectors, 0, nextVectors, 0, index);
+        System.arraycopy(vectors, index + 1, nextVectors, index, vectors.length - index - 1);
+        return copy(nextCourses, nextVectors);
+    }
+
+    private UniversityShard copy(CourseRecord[] nextCourses, TopicVector[] nextVectors) {
+        UniversityShard next = new UniversityShard(universityId, nextCourses, nextVectors);
+        next.lastAccess = lastAccess;
+        return next;
+    }
+}
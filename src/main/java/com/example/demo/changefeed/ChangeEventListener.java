@@ -0,0 +1,8 @@
+package com.example.demo.changefeed;
+
+import com.example.demo.entity.ChangeEvent;
+
+// Called once per committed change, from this node or another; see ChangeFeedPoller.
+public interface ChangeEventListener {
+    void onChange(ChangeEvent event);
+}
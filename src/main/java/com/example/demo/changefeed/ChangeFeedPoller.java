@@ -0,0 +1,188 @@
+package com.example.demo.changefeed;
+
+import com.example.demo.entity.ChangeEvent;
+import com.example.demo.repository.ChangeEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+
+// Picks its starting event id at boot, so it stays eager under lazy initialization.
+@Lazy(false)
+@Component
+public class ChangeFeedPoller {
+    private static final Logger log = LoggerFactory.getLogger(ChangeFeedPoller.class);
+    private static final int MAX_TRACKED_GAPS = 10_000;
+
+    @Autowired
+    private ChangeEventRepository repo;
+    @Autowired
+    private ChangeFeedService changeFeed;
+    @Autowired(required = false)
+    private List<ChangeEventListener> listeners = List.of();
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${changefeed.reorder-window-ms:2000}")
+    private long reorderWindowMs;
+    @Value("${changefeed.gap-recheck-interval-ms:30000}")
+    private long gapRecheckIntervalMs;
+    @Value("${changefeed.retention-hours:24}")
+    private long retentionHours;
+
+    private volatile long lastId;
+    // Ids skipped by a poll: an IDENTITY value can become visible after a higher one
+    // when transactions commit out of order. They are tracked for the whole retention,
+    // since a rolled-back id and a long transaction look the same from here.
+    private final NavigableMap<Long, Long> gaps = new ConcurrentSkipListMap<>();
+    // Events held back behind a gap younger than the reorder window; poller thread only.
+    private final NavigableMap<Long, ChangeEvent> held = new TreeMap<>();
+    private long lastGapRecheck;
+
+    private Counter published;
+    private Counter late;
+    private Counter untracked;
+    private Counter listenerFailures;
+    private Timer lag;
+
+    @PostConstruct
+    public void init() {
+        lastId = repo.findMaxId();
+        published = meterRegistry.counter("changefeed.events.published");
+        late = meterRegistry.counter("changefeed.events.late");
+        untracked = meterRegistry.counter("changefeed.gaps.untracked");
+        listenerFailures = meterRegistry.counter("changefeed.listener.failures");
+        lag = Timer.builder("changefeed.lag")
+                .description("Time between an outbox write and its delivery on this node")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        meterRegistry.gauge("changefeed.gaps", gaps, Map::size);
+        meterRegistry.gauge("changefeed.last.id", this, p -> p.lastId);
+        log.info("Change feed starting after event {} with {} listeners on node {}",
+                lastId, listeners.size(), changeFeed.getNodeId());
+    }
+
+    @Scheduled(fixedDelayString = "${changefeed.poll-interval-ms:1000}")
+    public void poll() {
+        long now = System.currentTimeMillis();
+        if (!gaps.isEmpty()) {
+            recheckGaps(now);
+        }
+
+        List<ChangeEvent> batch;
+        do {
+            batch = repo.findTop500ByIdGreaterThanOrderByIdAsc(lastId);
+            for (ChangeEvent event : batch) {
+                long id = event.getId();
+                for (long missing = lastId + 1; missing < id; missing++) {
+                    if (gaps.size() < MAX_TRACKED_GAPS) {
+                        gaps.put(missing, now);
+                    } else {
+                        untracked.increment();
+                    }
+                }
+                held.put(id, event);
+                lastId = id;
+            }
+        } while (batch.size() == 500);
+
+        // Release in id order up to the oldest gap still inside the reorder window; a gap
+        // that fills later is delivered late, which listeners tolerate because they
+        // re-read current state rather than apply the event as a diff.
+        long barrier = Long.MAX_VALUE;
+        for (Map.Entry<Long, Long> gap : gaps.entrySet()) {
+            if (now - gap.getValue() < reorderWindowMs) {
+                barrier = gap.getKey();
+                break;
+            }
+        }
+        while (!held.isEmpty() && held.firstKey() < barrier) {
+            publish(held.pollFirstEntry().getValue());
+        }
+    }
+
+    private void recheckGaps(long now) {
+        boolean recheckOld = now - lastGapRecheck >= gapRecheckIntervalMs;
+        List<Long> due = new ArrayList<>();
+        for (Map.Entry<Long, Long> gap : gaps.entrySet()) {
+            if (recheckOld || now - gap.getValue() < reorderWindowMs) {
+                due.add(gap.getKey());
+            }
+        }
+        if (recheckOld) {
+            lastGapRecheck = now;
+        }
+        for (int i = 0; i < due.size(); i += 500) {
+            for (ChangeEvent event : repo.findByIdInOrderByIdAsc(due.subList(i, Math.min(due.size(), i + 500)))) {
+                Long firstSeen = gaps.remove(event.getId());
+                if (firstSeen != null && now - firstSeen >= reorderWindowMs) {
+                    late.increment();
+                }
+                held.put(event.getId(), event);
+            }
+        }
+        long expiry = now - Duration.ofHours(retentionHours).toMillis();
+        gaps.values().removeIf(firstSeen -> firstSeen < expiry);
+    }
+
+    // This node's own writes reach the listeners here, once, after their transaction
+    // commits; the poll skips them by node id. Ahead of the async re-evaluation
+    // listener, which scores from the shards and policies refreshed here.
+    @Order(0)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onLocalCommit(ChangeEvent event) {
+        deliver(event);
+    }
+
+    private void publish(ChangeEvent event) {
+        if (changeFeed.getNodeId().equals(event.getNodeId())) {
+            return;
+        }
+        deliver(event);
+        published.increment();
+        if (event.getCreatedAt() != null) {
+            lag.record(Math.max(0, Duration.between(event.getCreatedAt(), Instant.now()).toMillis()), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // For local commits this runs inside afterCommit, where a synchronization registered
+    // by a listener would never fire, so listeners apply changes directly.
+    private void deliver(ChangeEvent event) {
+        for (ChangeEventListener listener : listeners) {
+            try {
+                listener.onChange(event);
+            } catch (RuntimeException e) {
+                listenerFailures.increment();
+                log.warn("Change listener {} failed for {} {} {}", listener.getClass().getSimpleName(),
+                        event.getEntityType(), event.getEntityId(), event.getOperation(), e);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${changefeed.purge-interval-ms:3600000}")
+    public void purge() {
+        int deleted = repo.deleteOlderThan(Instant.now().minus(Duration.ofHours(retentionHours)));
+        if (deleted > 0) {
+            log.info("Purged {} change events older than {}h", deleted, retentionHours);
+        }
+    }
+}
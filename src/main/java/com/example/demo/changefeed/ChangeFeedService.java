@@ -0,0 +1,87 @@
+package com.example.demo.changefeed;
+
+import com.example.demo.entity.ChangeEvent;
+import com.example.demo.entity.Course;
+import com.example.demo.entity.CourseContentTopic;
+import com.example.demo.entity.TransferRule;
+import com.example.demo.entity.University;
+import com.example.demo.repository.ChangeEventRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.Instant;
+import java.util.UUID;
+
+@Service
+public class ChangeFeedService {
+    @Autowired
+    private ChangeEventRepository repo;
+    @Autowired
+    private ApplicationEventPublisher publisher;
+
+    // Local listeners already ran for this node's writes; the poller skips events carrying this id.
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public ChangeEvent courseChanged(Course course, String operation) {
+        ChangeEvent event = newEvent(ChangeEvent.COURSE, course.getId(), operation);
+        event.setCourseId(course.getId());
+        if (course.getUniversity() != null) {
+            event.setUniversityId(course.getUniversity().getId());
+        }
+        return publish(event);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public ChangeEvent topicChanged(CourseContentTopic topic, String operation) {
+        ChangeEvent event = newEvent(ChangeEvent.TOPIC, topic.getId(), operation);
+        if (topic.getCourse() != null) {
+            event.setCourseId(topic.getCourse().getId());
+            if (topic.getCourse().getUniversity() != null) {
+                event.setUniversityId(topic.getCourse().getUniversity().getId());
+            }
+        }
+        return publish(event);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public ChangeEvent ruleChanged(TransferRule rule, String operation) {
+        ChangeEvent event = newEvent(ChangeEvent.RULE, rule.getId(), operation);
+        if (rule.getSourceUniversity() != null) {
+            event.setUniversityId(rule.getSourceUniversity().getId());
+        }
+        if (rule.getTargetUniversity() != null) {
+            event.setTargetUniversityId(rule.getTargetUniversity().getId());
+        }
+        return publish(event);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public ChangeEvent universityChanged(University university, String operation) {
+        ChangeEvent event = newEvent(ChangeEvent.UNIVERSITY, university.getId(), operation);
+        event.setUniversityId(university.getId());
+        return publish(event);
+    }
+
+    private ChangeEvent publish(ChangeEvent event) {
+        ChangeEvent saved = repo.save(event);
+        publisher.publishEvent(saved);
+        return saved;
+    }
+
+    private ChangeEvent newEvent(String entityType, Long entityId, String operation) {
+        ChangeEvent event = new ChangeEvent();
+        event.setEntityType(entityType);
+        event.setEntityId(entityId);
+        event.setOperation(operation);
+        event.setNodeId(nodeId);
+        event.setCreatedAt(Instant.now());
+        return event;
+    }
+}
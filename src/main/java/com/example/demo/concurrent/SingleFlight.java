@@ -0,0 +1,82 @@
+package com.example.demo.concurrent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+// Request coalescing: concurrent callers with the same key share one execution. The
+// first caller runs the work on its own thread; the others wait on its future and get
+// the same result or the same exception. Nothing is kept once the work finishes, so
+// this is not a cache: a caller arriving after completion runs the work again.
+//
+// A waiter gives up after the timeout and runs the work itself, so a stuck leader
+// degrades to uncoalesced execution instead of failing everyone behind it.
+public class SingleFlight<K, V> {
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final long timeoutMs;
+    private final Counter executions;
+    private final Counter coalesced;
+    private final Counter timeouts;
+
+    public SingleFlight(String name, long timeoutMs, MeterRegistry meterRegistry) {
+        this.timeoutMs = timeoutMs;
+        this.executions = meterRegistry.counter("singleflight.executions", "name", name);
+        this.coalesced = meterRegistry.counter("singleflight.coalesced", "name", name);
+        this.timeouts = meterRegistry.counter("singleflight.timeouts", "name", name);
+        meterRegistry.gauge("singleflight.inflight", Tags.of("name", name), inFlight, Map::size);
+    }
+
+    public V execute(K key, Supplier<V> work) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> leader = inFlight.putIfAbsent(key, mine);
+        if (leader == null) {
+            return lead(key, mine, work);
+        }
+        coalesced.increment();
+        try {
+            return leader.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) throw runtime;
+            if (cause instanceof Error error) throw error;
+            throw new RuntimeException(cause);
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            executions.increment();
+            return work.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for an in-flight request");
+        }
+    }
+
+    // Duplicate executions avoided so far.
+    public long getCoalescedCount() {
+        return (long) coalesced.count();
+    }
+
+    public long getExecutionCount() {
+        return (long) executions.count();
+    }
+
+    private V lead(K key, CompletableFuture<V> mine, Supplier<V> work) {
+        executions.increment();
+        try {
+            V value = work.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.demo.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.metamodel.EntityType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import javax.sql.DataSource;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+// Logs a warning for each datasource/JPA setting that undermines the batched
+// re-evaluation writes, the streaming exports or the evaluation thread pools.
+@Component
+public class DataSourceSelfCheck {
+    private static final Logger log = LoggerFactory.getLogger(DataSourceSelfCheck.class);
+
+    @Autowired
+    private Environment env;
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void check() {
+        List<String> warnings = new ArrayList<>();
+
+        if (env.getProperty("spring.jpa.show-sql", Boolean.class, false)) {
+            warnings.add("spring.jpa.show-sql=true writes every statement to stdout");
+        }
+        int batchSize = env.getProperty("spring.jpa.properties.hibernate.jdbc.batch_size", Integer.class, 0);
+        if (batchSize <= 1) {
+            warnings.add("hibernate.jdbc.batch_size is not set; saveAll() in re-evaluation issues one round trip per row");
+        } else {
+            List<String> identity = identityEntities();
+            if (!identity.isEmpty()) {
+                warnings.add("hibernate.jdbc.batch_size=" + batchSize + " does not apply to inserts of IDENTITY entities "
+                        + identity + "; only updates and deletes are batched");
+            }
+        }
+
+        if (dataSource instanceof HikariDataSource hikari) {
+            Properties props = hikari.getDataSourceProperties();
+            String url = hikari.getJdbcUrl() == null ? "" : hikari.getJdbcUrl();
+            if (batchSize > 1 && !enabled(props, url, "rewriteBatchedStatements")) {
+                warnings.add("rewriteBatchedStatements is off; Connector/J sends JDBC batches statement by statement");
+            }
+            if (!enabled(props, url, "cachePrepStmts")) {
+                warnings.add("cachePrepStmts is off; every statement is re-prepared on the client");
+            }
+            int workers = env.getProperty("evaluation.executor.threads", Integer.class, 2)
+                    + env.getProperty("catalog.shards.parallelism", Integer.class, 4);
+            if (hikari.getMaximumPoolSize() <= workers) {
+                warnings.add("maximum-pool-size=" + hikari.getMaximumPoolSize() + " leaves no connections for requests once the "
+                        + workers + " re-evaluation and catalog workers are busy; streaming exports also hold one each");
+            }
+        }
+
+        if (warnings.isEmpty()) {
+            log.info("Datasource self-check passed");
+        }
+        for (String warning : warnings) {
+            log.warn("Datasource self-check: {}", warning);
+        }
+    }
+
+    private List<String> identityEntities() {
+        List<String> names = new ArrayList<>();
+        for (EntityType<?> entity : entityManagerFactory.getMetamodel().getEntities()) {
+            for (Field field : entity.getJavaType().getDeclaredFields()) {
+                GeneratedValue generated = field.getAnnotation(GeneratedValue.class);
+                if (generated != null && generated.strategy() == GenerationType.IDENTITY) {
+                    names.add(entity.getName());
+                }
+            }
+        }
+        names.sort(null);
+        return names;
+    }
+
+    private static boolean enabled(Properties props, String url, String name) {
+        Object value = props.get(name);
+        if (value != null) return Boolean.parseBoolean(value.toString());
+        return url.contains(name + "=true");
+    }
+}
@@ -1,22 +1,37 @@
 package com.example.demo.config;
 
+import com.example.demo.security.JwtAuthenticationFilter;
+import com.example.demo.security.JwtTokenProvider;
+import com.example.demo.throttle.AdmissionControlFilter;
+import com.example.demo.throttle.AdmissionController;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.AnonymousAuthenticationFilter;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 @Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @EnableWebSecurity
 public class SecurityConfig {
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, AdmissionController admissionController,
+                                           JwtTokenProvider tokenProvider) throws Exception {
         http.csrf(csrf -> csrf.disable())
             .authorizeHttpRequests(authz -> authz
                 .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/h2-console/**").permitAll()
+                .requestMatchers(HttpMethod.POST, "/api/catalog-snapshot/export", "/api/catalog-snapshot/reload").hasRole("ADMIN")
+                .requestMatchers("/api/diagnostics/**").hasRole("ADMIN")
+                .requestMatchers(HttpMethod.POST, "/api/stats/articulation/rebuild").hasRole("ADMIN")
                 .anyRequest().permitAll()
-            );
+            )
+            .addFilterBefore(new JwtAuthenticationFilter(tokenProvider), UsernamePasswordAuthenticationFilter.class)
+            .addFilterAfter(new AdmissionControlFilter(admissionController), AnonymousAuthenticationFilter.class);
         return http.build();
     }
-}
\ No newline at end of file
+}
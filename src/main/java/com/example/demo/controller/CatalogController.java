@@ -0,0 +1,65 @@
+package com.example.demo.controller;
+
+import com.example.demo.catalog.AutocompleteIndex;
+import com.example.demo.catalog.CourseRecord;
+import com.example.demo.catalog.ShardedCatalog;
+import com.example.demo.catalog.UniversityShard;
+import com.example.demo.dto.ArticulationMatch;
+import com.example.demo.dto.CourseSuggestion;
+import com.example.demo.service.CatalogSearchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.*;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/catalog")
+public class CatalogController {
+
+    @Autowired
+    private CatalogSearchService searchService;
+    @Autowired
+    private ShardedCatalog catalog;
+    @Autowired
+    private AutocompleteIndex autocomplete;
+
+    @GetMapping("/search")
+    public List<CourseRecord> search(@RequestParam String q,
+                                     @RequestParam(required = false) List<Long> universityIds,
+                                     @RequestParam(defaultValue = "20") int limit) {
+        return searchService.searchCourses(q, universityIds, limit);
+    }
+
+    @GetMapping("/autocomplete/{universityId}")
+    public List<CourseSuggestion> autocomplete(@PathVariable Long universityId, @RequestParam String q,
+                                               @RequestParam(defaultValue = "10") int limit) {
+        return autocomplete.suggest(universityId, q, limit);
+    }
+
+    @GetMapping("/articulation/{sourceCourseId}")
+    public List<ArticulationMatch> articulate(@PathVariable Long sourceCourseId,
+                                              @RequestParam(required = false) List<Long> targetUniversityIds) {
+        return searchService.articulate(sourceCourseId, targetUniversityIds);
+    }
+
+    @GetMapping("/shards")
+    public Map<String, Object> shards() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        List<Map<String, Object>> resident = new ArrayList<>();
+        for (UniversityShard shard : catalog.residentShards()) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("universityId", shard.getUniversityId());
+            entry.put("courses", shard.size());
+            entry.put("bytes", shard.getEstimatedBytes());
+            resident.add(entry);
+        }
+        status.put("budgetBytes", catalog.getMemoryBudgetBytes());
+        status.put("residentBytes", catalog.getResidentBytes());
+        status.put("shards", resident);
+        return status;
+    }
+}
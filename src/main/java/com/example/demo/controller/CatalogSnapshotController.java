@@ -0,0 +1,47 @@
+package com.example.demo.controller;
+
+import com.example.demo.catalog.CatalogSnapshot;
+import com.example.demo.catalog.CatalogSnapshotService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.*;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/catalog-snapshot")
+public class CatalogSnapshotController {
+
+    @Autowired
+    private CatalogSnapshotService snapshotService;
+
+    @PostMapping("/export")
+    public Map<String, Object> export() throws IOException {
+        snapshotService.exportAndReload();
+        return status();
+    }
+
+    @PostMapping("/reload")
+    public Map<String, Object> reload() throws IOException {
+        snapshotService.reload();
+        return status();
+    }
+
+    @GetMapping
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        CatalogSnapshot snapshot = snapshotService.getSnapshot();
+        status.put("loaded", snapshot != null);
+        if (snapshot != null) {
+            status.put("path", snapshot.getPath().toString());
+            status.put("courses", snapshot.getCourseCount());
+            status.put("topics", snapshot.getTopicCount());
+            status.put("entries", snapshot.getEntryCount());
+            status.put("changeWatermark", snapshot.getChangeWatermark());
+        }
+        status.put("deltas", snapshotService.getDeltaCount());
+        return status;
+    }
+}
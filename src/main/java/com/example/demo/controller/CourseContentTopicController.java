@@ -1,17 +1,26 @@
 package com.example.demo.controller;
 
+import com.example.demo.catalog.CatalogVersions;
 import com.example.demo.entity.CourseContentTopic;
 import com.example.demo.service.CourseContentTopicService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import java.time.Duration;
 import java.util.List;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/topics")
 public class CourseContentTopicController {
     
     @Autowired
     private CourseContentTopicService topicService;
+    @Autowired
+    private CatalogVersions versions;
     
     @PostMapping
     public CourseContentTopic create(@RequestBody CourseContentTopic topic) {
@@ -29,7 +38,16 @@ public class CourseContentTopicController {
     }
     
     @GetMapping("/course/{courseId}")
-    public List<CourseContentTopic> getByCourse(@PathVariable Long courseId) {
-        return topicService.getTopicsForCourse(courseId);
+    public ResponseEntity<List<CourseContentTopic>> getByCourse(@PathVariable Long courseId, WebRequest request) {
+        String etag = versions.courseTopicsEtag(courseId);
+        boolean notModified = request.checkNotModified(etag);
+        versions.recordHit("course-topics", notModified);
+        if (notModified) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.maxAge(Duration.ofSeconds(60)).cachePublic())
+                .body(topicService.getTopicsForCourse(courseId));
     }
 }
\ No newline at end of file
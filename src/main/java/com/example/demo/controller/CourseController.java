@@ -1,17 +1,33 @@
 package com.example.demo.controller;
 
+import com.example.demo.catalog.CatalogVersions;
 import com.example.demo.entity.Course;
+import com.example.demo.service.BulkExportService;
+import com.example.demo.service.BulkFormat;
 import com.example.demo.service.CourseService;
+import com.fasterxml.jackson.core.JsonGenerator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.time.Duration;
 import java.util.List;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/courses")
 public class CourseController {
     
     @Autowired
     private CourseService courseService;
+    @Autowired
+    private CatalogVersions versions;
+    @Autowired
+    private BulkExportService exportService;
     
     @PostMapping
     public Course create(@RequestBody Course course) {
@@ -19,8 +35,17 @@ public class CourseController {
     }
     
     @GetMapping("/{id}")
-    public Course getById(@PathVariable Long id) {
-        return courseService.getCourseById(id);
+    public ResponseEntity<Course> getById(@PathVariable Long id, WebRequest request) {
+        String etag = versions.courseEtag(id);
+        boolean notModified = request.checkNotModified(etag);
+        versions.recordHit("course", notModified);
+        if (notModified) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.maxAge(Duration.ofSeconds(60)).cachePublic())
+                .body(courseService.getCourseById(id));
     }
     
     @PutMapping("/{id}")
@@ -29,8 +54,29 @@ public class CourseController {
     }
     
     @GetMapping("/university/{universityId}")
-    public List<Course> getByUniversity(@PathVariable Long universityId) {
-        return courseService.getCoursesByUniversity(universityId);
+    public ResponseEntity<List<Course>> getByUniversity(@PathVariable Long universityId, WebRequest request) {
+        String etag = versions.universityCoursesEtag(universityId);
+        boolean notModified = request.checkNotModified(etag);
+        versions.recordHit("university-courses", notModified);
+        if (notModified) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.maxAge(Duration.ofSeconds(30)).cachePublic().mustRevalidate())
+                .body(courseService.getCoursesByUniversity(universityId));
+    }
+    
+    @GetMapping("/university/{universityId}/stream")
+    public ResponseEntity<StreamingResponseBody> streamByUniversity(@PathVariable Long universityId,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        BulkFormat format = BulkFormat.fromAccept(accept);
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = format.getFactory().createGenerator(out)) {
+                exportService.writeCourses(universityId, generator);
+            }
+        };
+        return ResponseEntity.ok().contentType(format.getMediaType()).body(body);
     }
     
     @PutMapping("/{id}/deactivate")
@@ -0,0 +1,32 @@
+package com.example.demo.controller;
+
+import com.example.demo.diagnostics.RecordingService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.*;
+import java.util.Map;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/diagnostics/recording")
+public class DiagnosticsController {
+
+    @Autowired
+    private RecordingService recordingService;
+
+    @PostMapping("/start")
+    public Map<String, Object> start(@RequestParam(defaultValue = "60") long durationSeconds,
+                                     @RequestParam(defaultValue = "default") String settings) {
+        return recordingService.start(durationSeconds, settings);
+    }
+
+    @PostMapping("/stop")
+    public Map<String, Object> stop() {
+        return recordingService.stop();
+    }
+
+    @GetMapping
+    public Map<String, Object> status() {
+        return recordingService.status();
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.ArticulationStatsResponse;
+import com.example.demo.stats.ArticulationStatsAccumulator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.*;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/stats/articulation")
+public class StatsController {
+
+    @Autowired
+    private ArticulationStatsAccumulator stats;
+
+    @GetMapping("/{sourceUniversityId}/{targetUniversityId}")
+    public ArticulationStatsResponse getPair(@PathVariable Long sourceUniversityId, @PathVariable Long targetUniversityId) {
+        return stats.get(sourceUniversityId, targetUniversityId);
+    }
+
+    @GetMapping("/{sourceUniversityId}")
+    public List<ArticulationStatsResponse> getForSource(@PathVariable Long sourceUniversityId) {
+        return stats.getForSource(sourceUniversityId);
+    }
+
+    @PostMapping("/rebuild")
+    public Map<String, Integer> rebuild() {
+        return Map.of("pairs", stats.rebuild());
+    }
+}
@@ -1,21 +1,53 @@
 package com.example.demo.controller;
 
+import com.example.demo.dto.EvaluationExplanation;
+import com.example.demo.dto.TranscriptRequest;
+import com.example.demo.dto.TranscriptResponse;
+import com.example.demo.entity.EvaluationChange;
 import com.example.demo.entity.TransferEvaluationResult;
+import com.example.demo.service.BulkExportService;
+import com.example.demo.service.BulkFormat;
+import com.example.demo.service.ReevaluationService;
+import com.example.demo.service.TranscriptEvaluationService;
 import com.example.demo.service.TransferEvaluationService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/transfer-evaluations")
 public class TransferEvaluationController {
     
     @Autowired
     private TransferEvaluationService evaluationService;
+    @Autowired
+    private ReevaluationService reevaluationService;
+    @Autowired
+    private BulkExportService exportService;
+    @Autowired
+    private TranscriptEvaluationService transcriptService;
     
     @PostMapping("/evaluate/{sourceCourseId}/{targetCourseId}")
-    public TransferEvaluationResult evaluate(@PathVariable Long sourceCourseId, @PathVariable Long targetCourseId) {
-        return evaluationService.evaluateTransfer(sourceCourseId, targetCourseId);
+    public TransferEvaluationResult evaluate(@PathVariable Long sourceCourseId, @PathVariable Long targetCourseId,
+                                             @RequestParam(defaultValue = "false") boolean explain) {
+        return evaluationService.evaluateTransfer(sourceCourseId, targetCourseId, explain);
+    }
+    
+    @PostMapping("/transcript")
+    public TranscriptResponse evaluateTranscript(@RequestBody @Valid TranscriptRequest request) {
+        return transcriptService.evaluateTranscript(request.getSourceCourseIds(), request.getTargetUniversityId());
     }
     
     @GetMapping("/{id}")
@@ -23,8 +55,45 @@ public class TransferEvaluationController {
         return evaluationService.getEvaluationById(id);
     }
     
+    @GetMapping("/{id}/explanation")
+    public EvaluationExplanation getExplanation(@PathVariable Long id) {
+        return evaluationService.getExplanation(id);
+    }
+    
     @GetMapping("/course/{courseId}")
     public List<TransferEvaluationResult> getByCourse(@PathVariable Long courseId) {
         return evaluationService.getEvaluationsForCourse(courseId);
     }
+    
+    @GetMapping("/course/{courseId}/stream")
+    public ResponseEntity<StreamingResponseBody> streamByCourse(@PathVariable Long courseId,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        BulkFormat format = BulkFormat.fromAccept(accept);
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = format.getFactory().createGenerator(out)) {
+                exportService.writeEvaluations(courseId, generator);
+            }
+        };
+        return ResponseEntity.ok().contentType(format.getMediaType()).body(body);
+    }
+    
+    @GetMapping("/matrix/{sourceUniversityId}/{targetUniversityId}")
+    public ResponseEntity<StreamingResponseBody> matrix(@PathVariable Long sourceUniversityId,
+            @PathVariable Long targetUniversityId) {
+        StreamingResponseBody body = out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 1 << 16);
+            exportService.writeArticulationMatrix(sourceUniversityId, targetUniversityId, writer);
+        };
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType("text/csv")).body(body);
+    }
+    
+    @GetMapping("/changes")
+    public List<EvaluationChange> getRecentChanges() {
+        return reevaluationService.getRecentChanges();
+    }
+    
+    @GetMapping("/changes/course/{courseId}")
+    public List<EvaluationChange> getChangesForCourse(@PathVariable Long courseId) {
+        return reevaluationService.getChangesForCourse(courseId);
+    }
 }
\ No newline at end of file
@@ -1,17 +1,26 @@
 package com.example.demo.controller;
 
+import com.example.demo.catalog.CatalogVersions;
 import com.example.demo.entity.TransferRule;
 import com.example.demo.service.TransferRuleService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import java.time.Duration;
 import java.util.List;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/transfer-rules")
 public class TransferRuleController {
     
     @Autowired
     private TransferRuleService ruleService;
+    @Autowired
+    private CatalogVersions versions;
     
     @PostMapping
     public TransferRule create(@RequestBody TransferRule rule) {
@@ -24,13 +33,32 @@ public class TransferRuleController {
     }
     
     @GetMapping("/{id}")
-    public TransferRule getById(@PathVariable Long id) {
-        return ruleService.getRuleById(id);
+    public ResponseEntity<TransferRule> getById(@PathVariable Long id, WebRequest request) {
+        String etag = versions.ruleEtag(id);
+        boolean notModified = request.checkNotModified(etag);
+        versions.recordHit("rule", notModified);
+        if (notModified) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.maxAge(Duration.ofSeconds(300)).cachePublic())
+                .body(ruleService.getRuleById(id));
     }
     
     @GetMapping("/pair/{sourceId}/{targetId}")
-    public List<TransferRule> getRulesPair(@PathVariable Long sourceId, @PathVariable Long targetId) {
-        return ruleService.getRulesForUniversities(sourceId, targetId);
+    public ResponseEntity<List<TransferRule>> getRulesPair(@PathVariable Long sourceId, @PathVariable Long targetId,
+            WebRequest request) {
+        String etag = versions.rulePairEtag(sourceId, targetId);
+        boolean notModified = request.checkNotModified(etag);
+        versions.recordHit("rule-pair", notModified);
+        if (notModified) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.maxAge(Duration.ofSeconds(300)).cachePublic())
+                .body(ruleService.getRulesForUniversities(sourceId, targetId));
     }
     
     @PutMapping("/{id}/deactivate")
@@ -3,10 +3,12 @@ package com.example.demo.controller;
 import com.example.demo.entity.University;
 import com.example.demo.service.UniversityService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.web.bind.annotation.*;
 import java.util.List;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/universities")
 public class UniversityController {
     
@@ -0,0 +1,56 @@
+package com.example.demo.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.example.demo.EvaluationPhase")
+@Label("Evaluation Phase")
+@Category({"Transfer Pro", "Evaluation"})
+@Description("One phase of a transfer evaluation: load-courses, rules, topics, overlap, decide, save, explanation")
+@StackTrace(false)
+public class EvaluationPhaseEvent extends jdk.jfr.Event {
+    @Label("Phase")
+    String phase;
+    @Label("Source Course Id")
+    long sourceCourseId;
+    @Label("Target Course Id")
+    long targetCourseId;
+    @Label("Source Topics")
+    int sourceTopicCount;
+    @Label("Target Topics")
+    int targetTopicCount;
+    @Label("Rules")
+    int ruleCount;
+    @Label("Trace Id")
+    String traceId;
+
+    public static EvaluationPhaseEvent start(String phase, Long sourceCourseId, Long targetCourseId) {
+        EvaluationPhaseEvent event = new EvaluationPhaseEvent();
+        event.phase = phase;
+        event.sourceCourseId = sourceCourseId == null ? 0 : sourceCourseId;
+        event.targetCourseId = targetCourseId == null ? 0 : targetCourseId;
+        event.begin();
+        return event;
+    }
+
+    public EvaluationPhaseEvent topics(int source, int target) {
+        sourceTopicCount = source;
+        targetTopicCount = target;
+        return this;
+    }
+
+    public EvaluationPhaseEvent rules(int count) {
+        ruleCount = count;
+        return this;
+    }
+
+    public void finish() {
+        if (shouldCommit()) {
+            traceId = Tracing.currentTraceId();
+            commit();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.demo.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.example.demo.JwtParse")
+@Label("JWT Parse")
+@Category({"Transfer Pro", "Security"})
+@StackTrace(false)
+public class JwtParseEvent extends jdk.jfr.Event {
+    @Label("Operation")
+    String operation;
+    @Label("Token Length")
+    int tokenLength;
+    @Label("Valid")
+    boolean valid;
+    @Label("Trace Id")
+    String traceId;
+
+    public static JwtParseEvent start(String operation, String token) {
+        JwtParseEvent event = new JwtParseEvent();
+        event.operation = operation;
+        event.tokenLength = token == null ? 0 : token.length();
+        event.begin();
+        return event;
+    }
+
+    public void finish(boolean valid) {
+        if (shouldCommit()) {
+            this.valid = valid;
+            traceId = Tracing.currentTraceId();
+            commit();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.demo.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.example.demo.PasswordHash")
+@Label("BCrypt Hash")
+@Category({"Transfer Pro", "Security"})
+@StackTrace(false)
+public class PasswordHashEvent extends jdk.jfr.Event {
+    @Label("Operation")
+    String operation;
+    @Label("Cost")
+    int cost;
+    @Label("Matched")
+    boolean matched;
+    @Label("Trace Id")
+    String traceId;
+
+    public static PasswordHashEvent start(String operation) {
+        PasswordHashEvent event = new PasswordHashEvent();
+        event.operation = operation;
+        event.begin();
+        return event;
+    }
+
+    // The cost is read back from the hash ("$2a$10$..."), so it reflects what was stored.
+    public void finish(String hash, boolean matched) {
+        if (shouldCommit()) {
+            if (hash != null && hash.length() > 6 && hash.charAt(0) == '$') {
+                try {
+                    cost = Integer.parseInt(hash.substring(4, 6));
+                } catch (NumberFormatException e) {
+                    cost = -1;
+                }
+            }
+            this.matched = matched;
+            traceId = Tracing.currentTraceId();
+            commit();
+        }
+    }
+}
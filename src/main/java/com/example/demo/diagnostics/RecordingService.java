@@ -0,0 +1,121 @@
+package com.example.demo.diagnostics;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+// One on-demand JFR recording at a time, bounded by duration and size. JFR stops a
+// recording on its own when the duration runs out and writes it to the file. Only the
+// newest files are kept, so repeated starts cannot fill the disk.
+@Component
+public class RecordingService {
+    private static final Logger log = LoggerFactory.getLogger(RecordingService.class);
+
+    @Value("${diagnostics.recording.dir:data/recordings}")
+    private String directory;
+    @Value("${diagnostics.recording.max-duration-seconds:600}")
+    private long maxDurationSeconds;
+    @Value("${diagnostics.recording.max-size-mb:100}")
+    private long maxSizeMb;
+    @Value("${diagnostics.recording.keep:5}")
+    private int keep;
+
+    private Recording recording;
+    private Path file;
+
+    public synchronized Map<String, Object> start(long durationSeconds, String settings) {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            throw new IllegalArgumentException("A recording is already running");
+        }
+        long seconds = Math.max(1, Math.min(durationSeconds, maxDurationSeconds));
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration("profile".equals(settings) ? "profile" : "default");
+        } catch (IOException | ParseException e) {
+            throw new RuntimeException("Could not load JFR settings: " + e.getMessage());
+        }
+        try {
+            Path dir = Paths.get(directory);
+            Files.createDirectories(dir);
+            prune(dir);
+            file = dir.resolve("recording-" + Instant.now().toEpochMilli() + ".jfr");
+            Recording next = new Recording(configuration);
+            next.setName("on-demand");
+            next.setDuration(Duration.ofSeconds(seconds));
+            next.setMaxSize(maxSizeMb * 1024 * 1024);
+            next.setToDisk(true);
+            next.setDestination(file);
+            next.enable(EvaluationPhaseEvent.class);
+            next.enable(JwtParseEvent.class);
+            next.enable(PasswordHashEvent.class);
+            next.enable(SpanEvent.class);
+            next.start();
+            if (recording != null) recording.close();
+            recording = next;
+        } catch (IOException e) {
+            throw new RuntimeException("Could not start recording: " + e.getMessage());
+        }
+        log.info("Started JFR recording for {} s ({} settings) into {}", seconds, configuration.getName(), file);
+        return status();
+    }
+
+    public synchronized Map<String, Object> stop() {
+        if (recording == null) {
+            throw new RuntimeException("Recording not found");
+        }
+        if (recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+            log.info("Stopped JFR recording, written to {}", file);
+        }
+        return status();
+    }
+
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        if (recording == null) {
+            status.put("state", "NONE");
+            return status;
+        }
+        status.put("state", recording.getState().name());
+        status.put("startTime", recording.getStartTime());
+        status.put("duration", recording.getDuration() == null ? null : recording.getDuration().toSeconds());
+        status.put("maxSizeBytes", recording.getMaxSize());
+        status.put("file", file.toString());
+        try {
+            status.put("fileBytes", Files.exists(file) ? Files.size(file) : 0);
+        } catch (IOException e) {
+            status.put("fileBytes", -1);
+        }
+        return status;
+    }
+
+    // Leaves room for the new file: at most keep - 1 older recordings survive.
+    private void prune(Path dir) throws IOException {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(dir)) {
+            files = listing.filter(p -> p.getFileName().toString().matches("recording-\\d+\\.jfr"))
+                    .sorted(Comparator.comparing(Path::toString).reversed())
+                    .toList();
+        }
+        for (Path old : files.subList(Math.min(files.size(), Math.max(0, keep - 1)), files.size())) {
+            Files.deleteIfExists(old);
+            log.info("Deleted old JFR recording {}", old);
+        }
+    }
+}
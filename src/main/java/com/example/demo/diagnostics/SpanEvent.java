@@ -0,0 +1,23 @@
+package com.example.demo.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.example.demo.Span")
+@Label("Trace Span")
+@Category({"Transfer Pro", "Tracing"})
+@StackTrace(false)
+class SpanEvent extends jdk.jfr.Event {
+    @Label("Name")
+    String name;
+    @Label("Trace Id")
+    String traceId;
+    @Label("Span Id")
+    String spanId;
+    @Label("Parent Span Id")
+    String parentSpanId;
+    @Label("Status")
+    int status;
+}
@@ -0,0 +1,56 @@
+package com.example.demo.diagnostics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Outermost filter: assigns the trace id before security and admission control run.
+// A caller-supplied X-Trace-Id is reused so logs correlate across nodes, but sampling
+// always follows tracing.sample-rate: the header must not let callers force spans.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class TraceFilter extends OncePerRequestFilter {
+    private static final int MAX_TRACE_ID_LENGTH = 64;
+
+    @Value("${tracing.sample-rate:0.01}")
+    private double sampleRate;
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        String incoming = request.getHeader(Tracing.HEADER);
+        String traceId = isValid(incoming) ? incoming : Tracing.newId();
+        boolean sampled = ThreadLocalRandom.current().nextDouble() < sampleRate;
+
+        response.setHeader(Tracing.HEADER, traceId);
+        Tracing.begin(traceId, sampled);
+        Tracing.Span span = Tracing.span(request.getMethod() + " " + request.getRequestURI());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            span.status(response.getStatus());
+            span.close();
+            Tracing.end();
+        }
+    }
+
+    private static boolean isValid(String traceId) {
+        if (traceId == null || traceId.isEmpty() || traceId.length() > MAX_TRACE_ID_LENGTH) return false;
+        for (int i = 0; i < traceId.length(); i++) {
+            char c = traceId.charAt(i);
+            if (!Character.isLetterOrDigit(c) && c != '-') return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.demo.diagnostics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Request-scoped trace context. Every request gets a trace id (MDC "traceId" and the
+// X-Trace-Id header); only sampled requests record spans, so unsampled requests pay
+// for one random id and a thread-local. Spans are JFR events and DEBUG log lines.
+public final class Tracing {
+    public static final String HEADER = "X-Trace-Id";
+    public static final String MDC_KEY = "traceId";
+    private static final Logger log = LoggerFactory.getLogger(Tracing.class);
+    private static final ThreadLocal<Context> CURRENT = new ThreadLocal<>();
+
+    private Tracing() {}
+
+    private static final class Context {
+        final String traceId;
+        final boolean sampled;
+        String spanId;
+
+        Context(String traceId, boolean sampled) {
+            this.traceId = traceId;
+            this.sampled = sampled;
+        }
+    }
+
+    public static void begin(String traceId, boolean sampled) {
+        CURRENT.set(new Context(traceId, sampled));
+        MDC.put(MDC_KEY, traceId);
+    }
+
+    public static void end() {
+        CURRENT.remove();
+        MDC.remove(MDC_KEY);
+    }
+
+    public static String currentTraceId() {
+        Context context = CURRENT.get();
+        return context == null ? null : context.traceId;
+    }
+
+    public static String newId() {
+        return Long.toHexString(ThreadLocalRandom.current().nextLong() | Long.MIN_VALUE);
+    }
+
+    // try (Tracing.Span span = Tracing.span("evaluate")) { ... }
+    public static Span span(String name) {
+        Context context = CURRENT.get();
+        if (context == null || !context.sampled) {
+            return Span.NOOP;
+        }
+        return new Span(context, name);
+    }
+
+    public static class Span implements AutoCloseable {
+        static final Span NOOP = new Span(null, null);
+
+        private final Context context;
+        private final SpanEvent event;
+        private final String parentSpanId;
+        private final long start;
+
+        private Span(Context context, String name) {
+            this.context = context;
+            if (context == null) {
+                event = null;
+                parentSpanId = null;
+                start = 0;
+                return;
+            }
+            event = new SpanEvent();
+            event.name = name;
+            event.traceId = context.traceId;
+            event.spanId = newId();
+            event.parentSpanId = context.spanId;
+            parentSpanId = context.spanId;
+            context.spanId = event.spanId;
+            start = System.nanoTime();
+            event.begin();
+        }
+
+        public void status(int status) {
+            if (event != null) event.status = status;
+        }
+
+        @Override
+        public void close() {
+            if (event == null) return;
+            event.end();
+            context.spanId = parentSpanId;
+            if (event.shouldCommit()) event.commit();
+            if (log.isDebugEnabled()) {
+                log.debug("span {} trace={} id={} parent={} {} us", event.name, event.traceId, event.spanId,
+                        event.parentSpanId, (System.nanoTime() - start) / 1000);
+            }
+        }
+    }
+}
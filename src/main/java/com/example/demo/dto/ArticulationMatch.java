@@ -0,0 +1,33 @@
+package com.example.demo.dto;
+
+public class ArticulationMatch {
+    private Long targetUniversityId;
+    private Long targetCourseId;
+    private String targetCourseCode;
+    private String targetCourseName;
+    private int creditHours;
+    private double overlapPercentage;
+
+    public ArticulationMatch(Long targetUniversityId, Long targetCourseId, String targetCourseCode,
+                             String targetCourseName, int creditHours, double overlapPercentage) {
+        this.targetUniversityId = targetUniversityId;
+        this.targetCourseId = targetCourseId;
+        this.targetCourseCode = targetCourseCode;
+        this.targetCourseName = targetCourseName;
+        this.creditHours = creditHours;
+        this.overlapPercentage = overlapPercentage;
+    }
+
+    public Long getTargetUniversityId() { return targetUniversityId; }
+    public void setTargetUniversityId(Long targetUniversityId) { this.targetUniversityId = targetUniversityId; }
+    public Long getTargetCourseId() { return targetCourseId; }
+    public void setTargetCourseId(Long targetCourseId) { this.targetCourseId = targetCourseId; }
+    public String getTargetCourseCode() { return targetCourseCode; }
+    public void setTargetCourseCode(String targetCourseCode) { this.targetCourseCode = targetCourseCode; }
+    public String getTargetCourseName() { return targetCourseName; }
+    public void setTargetCourseName(String targetCourseName) { this.targetCourseName = targetCourseName; }
+    public int getCreditHours() { return creditHours; }
+    public void setCreditHours(int creditHours) { this.creditHours = creditHours; }
+    public double getOverlapPercentage() { return overlapPercentage; }
+    public void setOverlapPercentage(double overlapPercentage) { this.overlapPercentage = overlapPercentage; }
+}
@@ -0,0 +1,39 @@
+package com.example.demo.dto;
+
+import java.time.Instant;
+
+public class ArticulationStatsResponse {
+    private Long sourceUniversityId;
+    private Long targetUniversityId;
+    private long evaluationCount;
+    private long eligibleCount;
+    private double eligibilityRate;
+    private double averageOverlapPercentage;
+    private Instant updatedAt;
+
+    public ArticulationStatsResponse(Long sourceUniversityId, Long targetUniversityId, long evaluationCount,
+                                     long eligibleCount, double overlapSum, Instant updatedAt) {
+        this.sourceUniversityId = sourceUniversityId;
+        this.targetUniversityId = targetUniversityId;
+        this.evaluationCount = evaluationCount;
+        this.eligibleCount = eligibleCount;
+        this.eligibilityRate = evaluationCount == 0 ? 0.0 : (double) eligibleCount / evaluationCount;
+        this.averageOverlapPercentage = evaluationCount == 0 ? 0.0 : overlapSum / evaluationCount;
+        this.updatedAt = updatedAt;
+    }
+
+    public Long getSourceUniversityId() { return sourceUniversityId; }
+    public void setSourceUniversityId(Long sourceUniversityId) { this.sourceUniversityId = sourceUniversityId; }
+    public Long getTargetUniversityId() { return targetUniversityId; }
+    public void setTargetUniversityId(Long targetUniversityId) { this.targetUniversityId = targetUniversityId; }
+    public long getEvaluationCount() { return evaluationCount; }
+    public void setEvaluationCount(long evaluationCount) { this.evaluationCount = evaluationCount; }
+    public long getEligibleCount() { return eligibleCount; }
+    public void setEligibleCount(long eligibleCount) { this.eligibleCount = eligibleCount; }
+    public double getEligibilityRate() { return eligibilityRate; }
+    public void setEligibilityRate(double eligibilityRate) { this.eligibilityRate = eligibilityRate; }
+    public double getAverageOverlapPercentage() { return averageOverlapPercentage; }
+    public void setAverageOverlapPercentage(double averageOverlapPercentage) { this.averageOverlapPercentage = averageOverlapPercentage; }
+    public Instant getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(Instant updatedAt) { this.updatedAt = updatedAt; }
+}
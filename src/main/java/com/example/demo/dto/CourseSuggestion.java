@@ -0,0 +1,28 @@
+package com.example.demo.dto;
+
+public class CourseSuggestion {
+    private Long courseId;
+    private String courseCode;
+    private String courseName;
+    private String matchedField;
+    private String matchedTerm;
+
+    public CourseSuggestion(Long courseId, String courseCode, String courseName, String matchedField, String matchedTerm) {
+        this.courseId = courseId;
+        this.courseCode = courseCode;
+        this.courseName = courseName;
+        this.matchedField = matchedField;
+        this.matchedTerm = matchedTerm;
+    }
+
+    public Long getCourseId() { return courseId; }
+    public void setCourseId(Long courseId) { this.courseId = courseId; }
+    public String getCourseCode() { return courseCode; }
+    public void setCourseCode(String courseCode) { this.courseCode = courseCode; }
+    public String getCourseName() { return courseName; }
+    public void setCourseName(String courseName) { this.courseName = courseName; }
+    public String getMatchedField() { return matchedField; }
+    public void setMatchedField(String matchedField) { this.matchedField = matchedField; }
+    public String getMatchedTerm() { return matchedTerm; }
+    public void setMatchedTerm(String matchedTerm) { this.matchedTerm = matchedTerm; }
+}
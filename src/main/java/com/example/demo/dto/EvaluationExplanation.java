@@ -0,0 +1,43 @@
+package com.example.demo.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class EvaluationExplanation {
+    private double overlapPercentage;
+    private double matchedWeight;
+    private double unmatchedSourceWeight;
+    private int sourceCreditHours;
+    private int targetCreditHours;
+    private int creditHourDifference;
+    private Long ruleId;
+    private boolean rulePassed;
+    private String failedCriterion;
+    private List<TopicContribution> matchedTopics = new ArrayList<>();
+    private List<TopicContribution> unmatchedTopics = new ArrayList<>();
+
+    public EvaluationExplanation() {}
+
+    public double getOverlapPercentage() { return overlapPercentage; }
+    public void setOverlapPercentage(double overlapPercentage) { this.overlapPercentage = overlapPercentage; }
+    public double getMatchedWeight() { return matchedWeight; }
+    public void setMatchedWeight(double matchedWeight) { this.matchedWeight = matchedWeight; }
+    public double getUnmatchedSourceWeight() { return unmatchedSourceWeight; }
+    public void setUnmatchedSourceWeight(double unmatchedSourceWeight) { this.unmatchedSourceWeight = unmatchedSourceWeight; }
+    public int getSourceCreditHours() { return sourceCreditHours; }
+    public void setSourceCreditHours(int sourceCreditHours) { this.sourceCreditHours = sourceCreditHours; }
+    public int getTargetCreditHours() { return targetCreditHours; }
+    public void setTargetCreditHours(int targetCreditHours) { this.targetCreditHours = targetCreditHours; }
+    public int getCreditHourDifference() { return creditHourDifference; }
+    public void setCreditHourDifference(int creditHourDifference) { this.creditHourDifference = creditHourDifference; }
+    public Long getRuleId() { return ruleId; }
+    public void setRuleId(Long ruleId) { this.ruleId = ruleId; }
+    public boolean isRulePassed() { return rulePassed; }
+    public void setRulePassed(boolean rulePassed) { this.rulePassed = rulePassed; }
+    public String getFailedCriterion() { return failedCriterion; }
+    public void setFailedCriterion(String failedCriterion) { this.failedCriterion = failedCriterion; }
+    public List<TopicContribution> getMatchedTopics() { return matchedTopics; }
+    public void setMatchedTopics(List<TopicContribution> matchedTopics) { this.matchedTopics = matchedTopics; }
+    public List<TopicContribution> getUnmatchedTopics() { return unmatchedTopics; }
+    public void setUnmatchedTopics(List<TopicContribution> unmatchedTopics) { this.unmatchedTopics = unmatchedTopics; }
+}
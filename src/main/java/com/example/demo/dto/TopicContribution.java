@@ -0,0 +1,26 @@
+package com.example.demo.dto;
+
+public class TopicContribution {
+    private String topic;
+    private double sourceWeight;
+    private double targetWeight;
+    private double contributedWeight;
+
+    public TopicContribution() {}
+
+    public TopicContribution(String topic, double sourceWeight, double targetWeight, double contributedWeight) {
+        this.topic = topic;
+        this.sourceWeight = sourceWeight;
+        this.targetWeight = targetWeight;
+        this.contributedWeight = contributedWeight;
+    }
+
+    public String getTopic() { return topic; }
+    public void setTopic(String topic) { this.topic = topic; }
+    public double getSourceWeight() { return sourceWeight; }
+    public void setSourceWeight(double sourceWeight) { this.sourceWeight = sourceWeight; }
+    public double getTargetWeight() { return targetWeight; }
+    public void setTargetWeight(double targetWeight) { this.targetWeight = targetWeight; }
+    public double getContributedWeight() { return contributedWeight; }
+    public void setContributedWeight(double contributedWeight) { this.contributedWeight = contributedWeight; }
+}
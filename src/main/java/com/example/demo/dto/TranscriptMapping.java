@@ -0,0 +1,33 @@
+package com.example.demo.dto;
+
+public class TranscriptMapping {
+    private Long sourceCourseId;
+    private String sourceCourseCode;
+    private Long targetCourseId;
+    private String targetCourseCode;
+    private int creditHours;
+    private double overlapPercentage;
+
+    public TranscriptMapping(Long sourceCourseId, String sourceCourseCode, Long targetCourseId,
+                             String targetCourseCode, int creditHours, double overlapPercentage) {
+        this.sourceCourseId = sourceCourseId;
+        this.sourceCourseCode = sourceCourseCode;
+        this.targetCourseId = targetCourseId;
+        this.targetCourseCode = targetCourseCode;
+        this.creditHours = creditHours;
+        this.overlapPercentage = overlapPercentage;
+    }
+
+    public Long getSourceCourseId() { return sourceCourseId; }
+    public void setSourceCourseId(Long sourceCourseId) { this.sourceCourseId = sourceCourseId; }
+    public String getSourceCourseCode() { return sourceCourseCode; }
+    public void setSourceCourseCode(String sourceCourseCode) { this.sourceCourseCode = sourceCourseCode; }
+    public Long getTargetCourseId() { return targetCourseId; }
+    public void setTargetCourseId(Long targetCourseId) { this.targetCourseId = targetCourseId; }
+    public String getTargetCourseCode() { return targetCourseCode; }
+    public void setTargetCourseCode(String targetCourseCode) { this.targetCourseCode = targetCourseCode; }
+    public int getCreditHours() { return creditHours; }
+    public void setCreditHours(int creditHours) { this.creditHours = creditHours; }
+    public double getOverlapPercentage() { return overlapPercentage; }
+    public void setOverlapPercentage(double overlapPercentage) { this.overlapPercentage = overlapPercentage; }
+}
@@ -0,0 +1,30 @@
+package com.example.demo.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+
+public class TranscriptRequest {
+
+    @NotEmpty(message = "Source courses are required")
+    private List<Long> sourceCourseIds;
+
+    @NotNull(message = "Target university is required")
+    private Long targetUniversityId;
+
+    public List<Long> getSourceCourseIds() {
+        return sourceCourseIds;
+    }
+
+    public void setSourceCourseIds(List<Long> sourceCourseIds) {
+        this.sourceCourseIds = sourceCourseIds;
+    }
+
+    public Long getTargetUniversityId() {
+        return targetUniversityId;
+    }
+
+    public void setTargetUniversityId(Long targetUniversityId) {
+        this.targetUniversityId = targetUniversityId;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.demo.dto;
+
+import java.util.List;
+
+public class TranscriptResponse {
+    private List<TranscriptMapping> mappings;
+    private List<Long> unmappedSourceCourseIds;
+    private int totalCreditHours;
+    private long elapsedMillis;
+
+    public TranscriptResponse(List<TranscriptMapping> mappings, List<Long> unmappedSourceCourseIds,
+                              int totalCreditHours, long elapsedMillis) {
+        this.mappings = mappings;
+        this.unmappedSourceCourseIds = unmappedSourceCourseIds;
+        this.totalCreditHours = totalCreditHours;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public List<TranscriptMapping> getMappings() { return mappings; }
+    public void setMappings(List<TranscriptMapping> mappings) { this.mappings = mappings; }
+    public List<Long> getUnmappedSourceCourseIds() { return unmappedSourceCourseIds; }
+    public void setUnmappedSourceCourseIds(List<Long> unmappedSourceCourseIds) { this.unmappedSourceCourseIds = unmappedSourceCourseIds; }
+    public int getTotalCreditHours() { return totalCreditHours; }
+    public void setTotalCreditHours(int totalCreditHours) { this.totalCreditHours = totalCreditHours; }
+    public long getElapsedMillis() { return elapsedMillis; }
+    public void setElapsedMillis(long elapsedMillis) { this.elapsedMillis = elapsedMillis; }
+}
@@ -0,0 +1,49 @@
+package com.example.demo.entity;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+
+@Entity
+public class ChangeEvent {
+    public static final String COURSE = "COURSE";
+    public static final String TOPIC = "TOPIC";
+    public static final String RULE = "RULE";
+    public static final String UNIVERSITY = "UNIVERSITY";
+
+    public static final String CREATED = "CREATED";
+    public static final String UPDATED = "UPDATED";
+    public static final String DEACTIVATED = "DEACTIVATED";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private String entityType;
+    private Long entityId;
+    private String operation;
+    private Long courseId;
+    private Long universityId;
+    private Long targetUniversityId;
+    private String nodeId;
+    private Instant createdAt;
+
+    public ChangeEvent() {}
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public String getEntityType() { return entityType; }
+    public void setEntityType(String entityType) { this.entityType = entityType; }
+    public Long getEntityId() { return entityId; }
+    public void setEntityId(Long entityId) { this.entityId = entityId; }
+    public String getOperation() { return operation; }
+    public void setOperation(String operation) { this.operation = operation; }
+    public Long getCourseId() { return courseId; }
+    public void setCourseId(Long courseId) { this.courseId = courseId; }
+    public Long getUniversityId() { return universityId; }
+    public void setUniversityId(Long universityId) { this.universityId = universityId; }
+    public Long getTargetUniversityId() { return targetUniversityId; }
+    public void setTargetUniversityId(Long targetUniversityId) { this.targetUniversityId = targetUniversityId; }
+    public String getNodeId() { return nodeId; }
+    public void setNodeId(String nodeId) { this.nodeId = nodeId; }
+    public Instant getCreatedAt() { return createdAt; }
+    public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
+}
@@ -1,6 +1,7 @@
 package com.example.demo.entity;
 
 import jakarta.persistence.*;
+import java.time.Instant;
 
 @Entity
 public class Course {
@@ -10,7 +11,9 @@ public class Course {
     private String courseCode;
     private String courseName;
     private int creditHours;
+    private String department;
     private boolean active = true;
+    private Instant updatedAt;
     
     @ManyToOne
     @JoinColumn(name = "university_id")
@@ -26,8 +29,16 @@ public class Course {
     public void setCourseName(String courseName) { this.courseName = courseName; }
     public int getCreditHours() { return creditHours; }
     public void setCreditHours(int creditHours) { this.creditHours = creditHours; }
+    public String getDepartment() { return department; }
+    public void setDepartment(String department) { this.department = department; }
     public boolean isActive() { return active; }
     public void setActive(boolean active) { this.active = active; }
     public University getUniversity() { return university; }
     public void setUniversity(University university) { this.university = university; }
-}
\ No newline at end of file
+    public Instant getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(Instant updatedAt) { this.updatedAt = updatedAt; }
+
+    @PrePersist
+    @PreUpdate
+    public void touch() { updatedAt = Instant.now(); }
+}
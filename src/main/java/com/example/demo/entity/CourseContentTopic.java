@@ -1,6 +1,7 @@
 package com.example.demo.entity;
 
 import jakarta.persistence.*;
+import java.time.Instant;
 
 @Entity
 public class CourseContentTopic {
@@ -9,6 +10,8 @@ public class CourseContentTopic {
     private Long id;
     private String topicName;
     private Double weightPercentage;
+    private String category;
+    private Instant updatedAt;
     
     @ManyToOne
     @JoinColumn(name = "course_id")
@@ -22,6 +25,14 @@ public class CourseContentTopic {
     public void setTopicName(String topicName) { this.topicName = topicName; }
     public Double getWeightPercentage() { return weightPercentage; }
     public void setWeightPercentage(Double weightPercentage) { this.weightPercentage = weightPercentage; }
+    public String getCategory() { return category; }
+    public void setCategory(String category) { this.category = category; }
     public Course getCourse() { return course; }
     public void setCourse(Course course) { this.course = course; }
-}
\ No newline at end of file
+    public Instant getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(Instant updatedAt) { this.updatedAt = updatedAt; }
+
+    @PrePersist
+    @PreUpdate
+    public void touch() { updatedAt = Instant.now(); }
+}
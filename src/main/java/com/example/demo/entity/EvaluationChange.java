@@ -0,0 +1,43 @@
+package com.example.demo.entity;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+
+@Entity
+public class EvaluationChange {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private Long sourceCourseId;
+    private Long targetCourseId;
+    private Boolean previousEligible;
+    private Boolean currentEligible;
+    private Double previousOverlapPercentage;
+    private Double currentOverlapPercentage;
+    private String triggerType;
+    private Long triggerId;
+    private Instant changedAt;
+
+    public EvaluationChange() {}
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public Long getSourceCourseId() { return sourceCourseId; }
+    public void setSourceCourseId(Long sourceCourseId) { this.sourceCourseId = sourceCourseId; }
+    public Long getTargetCourseId() { return targetCourseId; }
+    public void setTargetCourseId(Long targetCourseId) { this.targetCourseId = targetCourseId; }
+    public Boolean getPreviousEligible() { return previousEligible; }
+    public void setPreviousEligible(Boolean previousEligible) { this.previousEligible = previousEligible; }
+    public Boolean getCurrentEligible() { return currentEligible; }
+    public void setCurrentEligible(Boolean currentEligible) { this.currentEligible = currentEligible; }
+    public Double getPreviousOverlapPercentage() { return previousOverlapPercentage; }
+    public void setPreviousOverlapPercentage(Double previousOverlapPercentage) { this.previousOverlapPercentage = previousOverlapPercentage; }
+    public Double getCurrentOverlapPercentage() { return currentOverlapPercentage; }
+    public void setCurrentOverlapPercentage(Double currentOverlapPercentage) { this.currentOverlapPercentage = currentOverlapPercentage; }
+    public String getTriggerType() { return triggerType; }
+    public void setTriggerType(String triggerType) { this.triggerType = triggerType; }
+    public Long getTriggerId() { return triggerId; }
+    public void setTriggerId(Long triggerId) { this.triggerId = triggerId; }
+    public Instant getChangedAt() { return changedAt; }
+    public void setChangedAt(Instant changedAt) { this.changedAt = changedAt; }
+}
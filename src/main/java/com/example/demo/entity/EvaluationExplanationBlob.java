@@ -0,0 +1,24 @@
+package com.example.demo.entity;
+
+import jakarta.persistence.*;
+
+@Entity
+public class EvaluationExplanationBlob {
+    @Id
+    private Long evaluationId;
+    @Lob
+    @Column(columnDefinition = "blob")
+    private byte[] data;
+
+    public EvaluationExplanationBlob() {}
+
+    public EvaluationExplanationBlob(Long evaluationId, byte[] data) {
+        this.evaluationId = evaluationId;
+        this.data = data;
+    }
+
+    public Long getEvaluationId() { return evaluationId; }
+    public void setEvaluationId(Long evaluationId) { this.evaluationId = evaluationId; }
+    public byte[] getData() { return data; }
+    public void setData(byte[] data) { this.data = data; }
+}
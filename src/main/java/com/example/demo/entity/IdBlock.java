@@ -0,0 +1,17 @@
+package com.example.demo.entity;
+
+import jakarta.persistence.*;
+
+@Entity
+public class IdBlock {
+    @Id
+    private String name;
+    private Long nextValue;
+
+    public IdBlock() {}
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+    public Long getNextValue() { return nextValue; }
+    public void setNextValue(Long nextValue) { this.nextValue = nextValue; }
+}
@@ -1,6 +1,9 @@
 package com.example.demo.entity;
 
+import com.example.demo.dto.EvaluationExplanation;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import jakarta.persistence.*;
+import java.time.Instant;
 
 @Entity
 public class TransferEvaluationResult {
@@ -10,6 +13,10 @@ public class TransferEvaluationResult {
     private Boolean isEligibleForTransfer;
     private Double overlapPercentage;
     private String notes;
+    private String failedCriterion;
+    // Set when a re-evaluation replaced this row; the row itself keeps what was reported.
+    private Long supersededById;
+    private Instant supersededAt;
     
     @ManyToOne
     @JoinColumn(name = "source_course_id")
@@ -19,6 +26,10 @@ public class TransferEvaluationResult {
     @JoinColumn(name = "target_course_id")
     private Course targetCourse;
 
+    @Transient
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private EvaluationExplanation explanation;
+
     public TransferEvaluationResult() {}
 
     public Long getId() { return id; }
@@ -29,8 +40,16 @@ public class TransferEvaluationResult {
     public void setOverlapPercentage(Double overlapPercentage) { this.overlapPercentage = overlapPercentage; }
     public String getNotes() { return notes; }
     public void setNotes(String notes) { this.notes = notes; }
+    public String getFailedCriterion() { return failedCriterion; }
+    public void setFailedCriterion(String failedCriterion) { this.failedCriterion = failedCriterion; }
+    public Long getSupersededById() { return supersededById; }
+    public void setSupersededById(Long supersededById) { this.supersededById = supersededById; }
+    public Instant getSupersededAt() { return supersededAt; }
+    public void setSupersededAt(Instant supersededAt) { this.supersededAt = supersededAt; }
     public Course getSourceCourse() { return sourceCourse; }
     public void setSourceCourse(Course sourceCourse) { this.sourceCourse = sourceCourse; }
     public Course getTargetCourse() { return targetCourse; }
     public void setTargetCourse(Course targetCourse) { this.targetCourse = targetCourse; }
-}
\ No newline at end of file
+    public EvaluationExplanation getExplanation() { return explanation; }
+    public void setExplanation(EvaluationExplanation explanation) { this.explanation = explanation; }
+}
@@ -1,6 +1,8 @@
 package com.example.demo.entity;
 
 import jakarta.persistence.*;
+import java.time.Instant;
+import java.util.List;
 
 @Entity
 public class TransferRule {
@@ -10,6 +12,7 @@ public class TransferRule {
     private Double minimumOverlapPercentage;
     private Integer creditHourTolerance;
     private boolean active = true;
+    private Instant updatedAt;
     
     @ManyToOne
     @JoinColumn(name = "source_university_id")
@@ -19,6 +22,10 @@ public class TransferRule {
     @JoinColumn(name = "target_university_id")
     private University targetUniversity;
 
+    @OneToMany(mappedBy = "rule", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+    // No initialiser: null means the request did not send criteria, so an update keeps them.
+    private List<TransferRuleCriterion> criteria;
+
     public TransferRule() {}
 
     public Long getId() { return id; }
@@ -33,4 +40,12 @@ public class TransferRule {
     public void setSourceUniversity(University sourceUniversity) { this.sourceUniversity = sourceUniversity; }
     public University getTargetUniversity() { return targetUniversity; }
     public void setTargetUniversity(University targetUniversity) { this.targetUniversity = targetUniversity; }
-}
\ No newline at end of file
+    public List<TransferRuleCriterion> getCriteria() { return criteria; }
+    public void setCriteria(List<TransferRuleCriterion> criteria) { this.criteria = criteria; }
+    public Instant getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(Instant updatedAt) { this.updatedAt = updatedAt; }
+
+    @PrePersist
+    @PreUpdate
+    public void touch() { updatedAt = Instant.now(); }
+}
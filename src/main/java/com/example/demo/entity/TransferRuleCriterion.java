@@ -0,0 +1,45 @@
+package com.example.demo.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+
+@Entity
+public class TransferRuleCriterion {
+    public static final String REQUIRED_TOPIC = "REQUIRED_TOPIC";
+    public static final String CATEGORY_MIN_OVERLAP = "CATEGORY_MIN_OVERLAP";
+    public static final String CATEGORY_WEIGHT = "CATEGORY_WEIGHT";
+    public static final String MIN_CREDIT_HOURS = "MIN_CREDIT_HOURS";
+    public static final String DEPARTMENT_MIN_OVERLAP = "DEPARTMENT_MIN_OVERLAP";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private String type;
+    private String topicName;
+    private String category;
+    private String department;
+    @Column(name = "criterion_value")
+    private Double value;
+
+    @JsonIgnore
+    @ManyToOne
+    @JoinColumn(name = "rule_id")
+    private TransferRule rule;
+
+    public TransferRuleCriterion() {}
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+    public String getTopicName() { return topicName; }
+    public void setTopicName(String topicName) { this.topicName = topicName; }
+    public String getCategory() { return category; }
+    public void setCategory(String category) { this.category = category; }
+    public String getDepartment() { return department; }
+    public void setDepartment(String department) { this.department = department; }
+    public Double getValue() { return value; }
+    public void setValue(Double value) { this.value = value; }
+    public TransferRule getRule() { return rule; }
+    public void setRule(TransferRule rule) { this.rule = rule; }
+}
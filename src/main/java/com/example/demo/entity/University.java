@@ -1,6 +1,7 @@
 package com.example.demo.entity;
 
 import jakarta.persistence.*;
+import java.time.Instant;
 
 @Entity
 public class University {
@@ -9,6 +10,7 @@ public class University {
     private Long id;
     private String name;
     private boolean active = true;
+    private Instant updatedAt;
 
     public University() {}
 
@@ -18,4 +20,10 @@ public class University {
     public void setName(String name) { this.name = name; }
     public boolean isActive() { return active; }
     public void setActive(boolean active) { this.active = active; }
-}
\ No newline at end of file
+    public Instant getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(Instant updatedAt) { this.updatedAt = updatedAt; }
+
+    @PrePersist
+    @PreUpdate
+    public void touch() { updatedAt = Instant.now(); }
+}
@@ -0,0 +1,37 @@
+package com.example.demo.entity;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+
+// Running totals of evaluations per (source university, target university), maintained
+// incrementally by ArticulationStatsAccumulator instead of aggregating the result table.
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"sourceUniversityId", "targetUniversityId"}))
+public class UniversityPairStats {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private Long sourceUniversityId;
+    private Long targetUniversityId;
+    private long evaluationCount;
+    private long eligibleCount;
+    private double overlapSum;
+    private Instant updatedAt;
+
+    public UniversityPairStats() {}
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public Long getSourceUniversityId() { return sourceUniversityId; }
+    public void setSourceUniversityId(Long sourceUniversityId) { this.sourceUniversityId = sourceUniversityId; }
+    public Long getTargetUniversityId() { return targetUniversityId; }
+    public void setTargetUniversityId(Long targetUniversityId) { this.targetUniversityId = targetUniversityId; }
+    public long getEvaluationCount() { return evaluationCount; }
+    public void setEvaluationCount(long evaluationCount) { this.evaluationCount = evaluationCount; }
+    public long getEligibleCount() { return eligibleCount; }
+    public void setEligibleCount(long eligibleCount) { this.eligibleCount = eligibleCount; }
+    public double getOverlapSum() { return overlapSum; }
+    public void setOverlapSum(double overlapSum) { this.overlapSum = overlapSum; }
+    public Instant getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(Instant updatedAt) { this.updatedAt = updatedAt; }
+}
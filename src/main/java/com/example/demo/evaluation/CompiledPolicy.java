@@ -0,0 +1,61 @@
+package com.example.demo.evaluation;
+
+// Immutable set of active rules for one university pair; eligible when any rule passes.
+public final class CompiledPolicy {
+    public static final CompiledPolicy EMPTY = new CompiledPolicy(new CompiledRule[0]);
+    private static final int CRITERION_BITS = 4;
+    private static final int CRITERION_MASK = (1 << CRITERION_BITS) - 1;
+
+    private final CompiledRule[] rules;
+    private final boolean needsTopics;
+
+    CompiledPolicy(CompiledRule[] rules) {
+        this.rules = rules;
+        boolean topics = false;
+        for (CompiledRule rule : rules) {
+            topics |= rule.needsTopics();
+        }
+        this.needsTopics = topics;
+    }
+
+    public boolean isEmpty() { return rules.length == 0; }
+    public boolean needsTopics() { return needsTopics; }
+    public int size() { return rules.length; }
+    public CompiledRule rule(int index) { return rules[index]; }
+
+    // Packs the rule index and criterion into one int so evaluation allocates nothing:
+    // the passing rule with NONE, or the rule that got furthest with the criterion it
+    // failed (-1 and NO_RULE without rules). Unpack with passed, ruleIndex and failure.
+    public int evaluate(double overlap, int sourceCredits, int targetCredits, int departmentId,
+                        TopicVector source, TopicVector target) {
+        int best = -1;
+        Criterion bestFailure = Criterion.NO_RULE;
+        for (int i = 0; i < rules.length; i++) {
+            Criterion result = rules[i].evaluate(overlap, sourceCredits, targetCredits, departmentId, source, target);
+            if (result == Criterion.NONE) {
+                return outcome(i, Criterion.NONE);
+            }
+            if (best < 0 || result.ordinal() > bestFailure.ordinal()) {
+                best = i;
+                bestFailure = result;
+            }
+        }
+        return outcome(best, bestFailure);
+    }
+
+    public static boolean passed(int outcome) {
+        return (outcome & CRITERION_MASK) == Criterion.NONE.ordinal();
+    }
+
+    public static int ruleIndex(int outcome) {
+        return outcome >> CRITERION_BITS;
+    }
+
+    public static Criterion failure(int outcome) {
+        return Criterion.of(outcome & CRITERION_MASK);
+    }
+
+    private static int outcome(int ruleIndex, Criterion criterion) {
+        return ruleIndex << CRITERION_BITS | criterion.ordinal();
+    }
+}
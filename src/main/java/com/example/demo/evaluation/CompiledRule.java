@@ -0,0 +1,71 @@
+package com.example.demo.evaluation;
+
+public final class CompiledRule {
+    private final long ruleId;
+    private final double minOverlap;
+    private final int creditHourTolerance;
+    private final int minCreditHours;
+    private final int[] departmentIds;
+    private final double[] departmentMinOverlaps;
+    private final int[] requiredTopicIds;
+    private final int[] categoryIds;
+    private final double[] categoryMinOverlaps;
+    private final double[] categoryWeights;
+
+    CompiledRule(long ruleId, double minOverlap, int creditHourTolerance, int minCreditHours,
+                 int[] departmentIds, double[] departmentMinOverlaps, int[] requiredTopicIds,
+                 int[] categoryIds, double[] categoryMinOverlaps, double[] categoryWeights) {
+        this.ruleId = ruleId;
+        this.minOverlap = minOverlap;
+        this.creditHourTolerance = creditHourTolerance;
+        this.minCreditHours = minCreditHours;
+        this.departmentIds = departmentIds;
+        this.departmentMinOverlaps = departmentMinOverlaps;
+        this.requiredTopicIds = requiredTopicIds;
+        this.categoryIds = categoryIds;
+        this.categoryMinOverlaps = categoryMinOverlaps;
+        this.categoryWeights = categoryWeights;
+    }
+
+    public long getRuleId() { return ruleId; }
+
+    public boolean needsTopics() {
+        return requiredTopicIds.length > 0 || categoryIds.length > 0 || categoryWeights != null;
+    }
+
+    public Criterion evaluate(double overlap, int sourceCredits, int targetCredits, int departmentId,
+                              TopicVector source, TopicVector target) {
+        if (sourceCredits < minCreditHours) {
+            return Criterion.MIN_CREDIT_HOURS;
+        }
+        if (creditHourTolerance >= 0 && Math.abs(sourceCredits - targetCredits) > creditHourTolerance) {
+            return Criterion.CREDIT_HOUR_TOLERANCE;
+        }
+        double effectiveOverlap = categoryWeights == null ? overlap : source.weightedOverlap(target, categoryWeights);
+        if (effectiveOverlap < minOverlapFor(departmentId)) {
+            return Criterion.MIN_OVERLAP;
+        }
+        for (int topicId : requiredTopicIds) {
+            if (!source.contains(topicId) || !target.contains(topicId)) {
+                return Criterion.REQUIRED_TOPIC;
+            }
+        }
+        for (int i = 0; i < categoryIds.length; i++) {
+            if (source.categoryOverlap(target, categoryIds[i]) < categoryMinOverlaps[i]) {
+                return Criterion.CATEGORY_MIN_OVERLAP;
+            }
+        }
+        return Criterion.NONE;
+    }
+
+    private double minOverlapFor(int departmentId) {
+        if (departmentId != TopicDictionary.NONE) {
+            for (int i = 0; i < departmentIds.length; i++) {
+                if (departmentIds[i] == departmentId) {
+                    return departmentMinOverlaps[i];
+                }
+            }
+        }
+        return minOverlap;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.demo.evaluation;
+
+// Declaration order is evaluation order; a later failure means the rule got further.
+public enum Criterion {
+    NONE,
+    NO_RULE,
+    MIN_CREDIT_HOURS,
+    CREDIT_HOUR_TOLERANCE,
+    MIN_OVERLAP,
+    REQUIRED_TOPIC,
+    CATEGORY_MIN_OVERLAP;
+
+    private static final Criterion[] VALUES = values();
+
+    public static Criterion of(int ordinal) {
+        return VALUES[ordinal];
+    }
+}
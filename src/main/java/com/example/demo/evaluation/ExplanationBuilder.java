@@ -0,0 +1,41 @@
+package com.example.demo.evaluation;
+
+import com.example.demo.dto.EvaluationExplanation;
+import com.example.demo.dto.TopicContribution;
+
+// Collects the per-topic breakdown while the evaluator computes the overlap.
+public class ExplanationBuilder implements OverlapSink {
+    private final TopicDictionary dictionary;
+    private final EvaluationExplanation explanation = new EvaluationExplanation();
+
+    public ExplanationBuilder(TopicDictionary dictionary) {
+        this.dictionary = dictionary;
+    }
+
+    @Override
+    public void matched(int topicId, double sourceWeight, double targetWeight, double contributedWeight) {
+        explanation.getMatchedTopics().add(new TopicContribution(dictionary.topicName(topicId), sourceWeight,
+                targetWeight, contributedWeight));
+        explanation.setMatchedWeight(explanation.getMatchedWeight() + contributedWeight);
+        // Weight the target lacks still counts against the source.
+        explanation.setUnmatchedSourceWeight(explanation.getUnmatchedSourceWeight() + sourceWeight - contributedWeight);
+    }
+
+    @Override
+    public void unmatched(int topicId, double sourceWeight) {
+        explanation.getUnmatchedTopics().add(new TopicContribution(dictionary.topicName(topicId), sourceWeight, 0.0, 0.0));
+        explanation.setUnmatchedSourceWeight(explanation.getUnmatchedSourceWeight() + sourceWeight);
+    }
+
+    public EvaluationExplanation build(double overlapPercentage, int sourceCredits, int targetCredits,
+                                       Long ruleId, boolean passed, Criterion failure) {
+        explanation.setOverlapPercentage(overlapPercentage);
+        explanation.setSourceCreditHours(sourceCredits);
+        explanation.setTargetCreditHours(targetCredits);
+        explanation.setCreditHourDifference(sourceCredits - targetCredits);
+        explanation.setRuleId(ruleId);
+        explanation.setRulePassed(passed);
+        explanation.setFailedCriterion(passed || failure == null ? null : failure.name());
+        return explanation;
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.demo.evaluation;
+
+import com.example.demo.dto.EvaluationExplanation;
+import com.example.demo.dto.TopicContribution;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+// Binary form of an explanation for the blob column: a version byte, the scalar
+// fields, then both topic lists (weights as floats; they are percentages).
+public final class ExplanationCodec {
+    private static final int VERSION = 1;
+
+    private ExplanationCodec() {}
+
+    public static byte[] encode(EvaluationExplanation e) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + 24 * (e.getMatchedTopics().size() + e.getUnmatchedTopics().size()));
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(VERSION);
+            out.writeDouble(e.getOverlapPercentage());
+            out.writeFloat((float) e.getMatchedWeight());
+            out.writeFloat((float) e.getUnmatchedSourceWeight());
+            out.writeShort(e.getSourceCreditHours());
+            out.writeShort(e.getTargetCreditHours());
+            out.writeLong(e.getRuleId() == null ? -1 : e.getRuleId());
+            out.writeBoolean(e.isRulePassed());
+            out.writeUTF(e.getFailedCriterion() == null ? "" : e.getFailedCriterion());
+            writeTopics(out, e.getMatchedTopics());
+            writeTopics(out, e.getUnmatchedTopics());
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public static EvaluationExplanation decode(byte[] data) {
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+            int version = in.readUnsignedByte();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported explanation version " + version);
+            }
+            EvaluationExplanation e = new EvaluationExplanation();
+            e.setOverlapPercentage(in.readDouble());
+            e.setMatchedWeight(in.readFloat());
+            e.setUnmatchedSourceWeight(in.readFloat());
+            e.setSourceCreditHours(in.readShort());
+            e.setTargetCreditHours(in.readShort());
+            e.setCreditHourDifference(e.getSourceCreditHours() - e.getTargetCreditHours());
+            long ruleId = in.readLong();
+            e.setRuleId(ruleId < 0 ? null : ruleId);
+            e.setRulePassed(in.readBoolean());
+            String failed = in.readUTF();
+            e.setFailedCriterion(failed.isEmpty() ? null : failed);
+            e.setMatchedTopics(readTopics(in));
+            e.setUnmatchedTopics(readTopics(in));
+            return e;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static void writeTopics(DataOutputStream out, List<TopicContribution> topics) throws IOException {
+        out.writeShort(topics.size());
+        for (TopicContribution topic : topics) {
+            out.writeUTF(topic.getTopic() == null ? "" : topic.getTopic());
+            out.writeFloat((float) topic.getSourceWeight());
+            out.writeFloat((float) topic.getTargetWeight());
+            out.writeFloat((float) topic.getContributedWeight());
+        }
+    }
+
+    private static List<TopicContribution> readTopics(DataInputStream in) throws IOException {
+        int count = in.readUnsignedShort();
+        List<TopicContribution> topics = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            topics.add(new TopicContribution(in.readUTF(), in.readFloat(), in.readFloat(), in.readFloat()));
+        }
+        return topics;
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.demo.evaluation;
+
+public interface OverlapSink {
+    void matched(int topicId, double sourceWeight, double targetWeight, double contributedWeight);
+    void unmatched(int topicId, double sourceWeight);
+}
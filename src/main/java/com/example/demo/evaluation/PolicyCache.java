@@ -0,0 +1,155 @@
+package com.example.demo.evaluation;
+
+import com.example.demo.changefeed.ChangeEventListener;
+import com.example.demo.entity.ChangeEvent;
+import com.example.demo.entity.TransferRule;
+import com.example.demo.entity.TransferRuleCriterion;
+import com.example.demo.repository.TransferRuleRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class PolicyCache implements ChangeEventListener {
+    @Autowired
+    private TransferRuleRepository ruleRepo;
+    @Autowired
+    private TopicDictionary dictionary;
+
+    // Source university -> target university -> policy. Keyed on the callers' own Long ids,
+    // so a cached lookup allocates nothing.
+    private final Map<Long, Map<Long, CompiledPolicy>> policies = new ConcurrentHashMap<>();
+    // Bumped before every invalidation; a compile that overlapped one is not cached.
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public CompiledPolicy policyFor(Long sourceUniversityId, Long targetUniversityId) {
+        if (sourceUniversityId == null || targetUniversityId == null) {
+            return CompiledPolicy.EMPTY;
+        }
+        CompiledPolicy policy = cached(sourceUniversityId, targetUniversityId);
+        if (policy != null) {
+            return policy;
+        }
+        // The rule query runs outside the map so it does not block other pairs' bins.
+        long generation = invalidations.get();
+        policy = compile(ruleRepo.findBySourceUniversityIdAndTargetUniversityIdAndActiveTrue(sourceUniversityId, targetUniversityId));
+        if (invalidations.get() == generation) {
+            Map<Long, CompiledPolicy> targets = policies.computeIfAbsent(sourceUniversityId, k -> new ConcurrentHashMap<>());
+            CompiledPolicy existing = targets.putIfAbsent(targetUniversityId, policy);
+            if (existing != null) {
+                return existing;
+            }
+            if (invalidations.get() != generation) {
+                targets.remove(targetUniversityId, policy);
+            }
+        }
+        return policy;
+    }
+
+    // Null when the pair has not been compiled yet, so non-blocking callers can skip the rule query.
+    public CompiledPolicy cachedPolicy(Long sourceUniversityId, Long targetUniversityId) {
+        if (sourceUniversityId == null || targetUniversityId == null) {
+            return CompiledPolicy.EMPTY;
+        }
+        return cached(sourceUniversityId, targetUniversityId);
+    }
+
+    public void invalidate(Long sourceUniversityId, Long targetUniversityId) {
+        invalidations.incrementAndGet();
+        if (sourceUniversityId == null || targetUniversityId == null) {
+            policies.clear();
+        } else {
+            Map<Long, CompiledPolicy> targets = policies.get(sourceUniversityId);
+            if (targets != null) {
+                targets.remove(targetUniversityId);
+            }
+        }
+    }
+
+    public int size() {
+        return policies.values().stream().mapToInt(Map::size).sum();
+    }
+
+    @Override
+    public void onChange(ChangeEvent event) {
+        if (ChangeEvent.RULE.equals(event.getEntityType())) {
+            invalidate(event.getUniversityId(), event.getTargetUniversityId());
+        }
+    }
+
+    CompiledPolicy compile(List<TransferRule> rules) {
+        if (rules.isEmpty()) {
+            return CompiledPolicy.EMPTY;
+        }
+        CompiledRule[] compiled = new CompiledRule[rules.size()];
+        for (int r = 0; r < compiled.length; r++) {
+            compiled[r] = compile(rules.get(r));
+        }
+        return new CompiledPolicy(compiled);
+    }
+
+    private CompiledRule compile(TransferRule rule) {
+        double minOverlap = rule.getMinimumOverlapPercentage() == null ? 0.0 : rule.getMinimumOverlapPercentage();
+        int tolerance = rule.getCreditHourTolerance() == null ? -1 : rule.getCreditHourTolerance();
+        int minCredits = 0;
+        List<Integer> departments = new ArrayList<>();
+        List<Double> departmentMins = new ArrayList<>();
+        List<Integer> required = new ArrayList<>();
+        List<Integer> categories = new ArrayList<>();
+        List<Double> categoryMins = new ArrayList<>();
+        List<Integer> weightedCategories = new ArrayList<>();
+        List<Double> weights = new ArrayList<>();
+
+        List<TransferRuleCriterion> criteria = rule.getCriteria() == null ? List.of() : rule.getCriteria();
+        for (TransferRuleCriterion criterion : criteria) {
+            double value = criterion.getValue() == null ? 0.0 : criterion.getValue();
+            switch (criterion.getType()) {
+                case TransferRuleCriterion.REQUIRED_TOPIC -> required.add(dictionary.topicId(criterion.getTopicName()));
+                case TransferRuleCriterion.CATEGORY_MIN_OVERLAP -> {
+                    categories.add(dictionary.categoryId(criterion.getCategory()));
+                    categoryMins.add(value);
+                }
+                case TransferRuleCriterion.CATEGORY_WEIGHT -> {
+                    weightedCategories.add(dictionary.categoryId(criterion.getCategory()));
+                    weights.add(value);
+                }
+                case TransferRuleCriterion.MIN_CREDIT_HOURS -> minCredits = Math.max(minCredits, (int) value);
+                case TransferRuleCriterion.DEPARTMENT_MIN_OVERLAP -> {
+                    departments.add(dictionary.departmentId(criterion.getDepartment()));
+                    departmentMins.add(value);
+                }
+                default -> throw new IllegalStateException("Unknown rule criterion: " + criterion.getType());
+            }
+        }
+
+        double[] categoryWeights = null;
+        if (!weightedCategories.isEmpty()) {
+            categoryWeights = new double[dictionary.categoryCount()];
+            Arrays.fill(categoryWeights, 1.0);
+            for (int i = 0; i < weightedCategories.size(); i++) {
+                categoryWeights[weightedCategories.get(i)] = weights.get(i);
+            }
+        }
+        return new CompiledRule(rule.getId() == null ? -1 : rule.getId(), minOverlap, tolerance, minCredits,
+                ints(departments), doubles(departmentMins), ints(required),
+                ints(categories), doubles(categoryMins), categoryWeights);
+    }
+
+    private CompiledPolicy cached(Long sourceUniversityId, Long targetUniversityId) {
+        Map<Long, CompiledPolicy> targets = policies.get(sourceUniversityId);
+        return targets == null ? null : targets.get(targetUniversityId);
+    }
+
+    private static int[] ints(List<Integer> values) {
+        return values.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static double[] doubles(List<Double> values) {
+        return values.stream().mapToDouble(Double::doubleValue).toArray();
+    }
+}
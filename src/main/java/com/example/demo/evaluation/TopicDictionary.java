@@ -0,0 +1,51 @@
+package com.example.demo.evaluation;
+
+import org.springframework.stereotype.Component;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+public class TopicDictionary {
+    public static final int NONE = -1;
+
+    private final Map<String, Integer> topics = new ConcurrentHashMap<>();
+    private final Map<String, Integer> categories = new ConcurrentHashMap<>();
+    private final Map<String, Integer> departments = new ConcurrentHashMap<>();
+    private final Map<Integer, String> topicNames = new ConcurrentHashMap<>();
+    private final AtomicInteger nextTopic = new AtomicInteger();
+    private final AtomicInteger nextCategory = new AtomicInteger();
+    private final AtomicInteger nextDepartment = new AtomicInteger();
+
+    public int topicId(String name) {
+        return intern(topics, nextTopic, name, topicNames);
+    }
+
+    public int categoryId(String name) {
+        return intern(categories, nextCategory, name, null);
+    }
+
+    public int departmentId(String name) {
+        return intern(departments, nextDepartment, name, null);
+    }
+
+    public String topicName(int topicId) {
+        return topicNames.get(topicId);
+    }
+
+    public int categoryCount() {
+        return nextCategory.get();
+    }
+
+    private static int intern(Map<String, Integer> ids, AtomicInteger next, String name, Map<Integer, String> names) {
+        if (name == null) return NONE;
+        String key = name.toLowerCase(Locale.ROOT);
+        Integer id = ids.get(key);
+        return id != null ? id : ids.computeIfAbsent(key, k -> {
+            int assigned = next.getAndIncrement();
+            if (names != null) names.put(assigned, k);
+            return assigned;
+        });
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.demo.evaluation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Topics of one course as parallel arrays sorted by topic id. Equal ids keep their
+// original order so the first target occurrence wins, as name-by-name matching did.
+public final class TopicVector {
+    public static final TopicVector EMPTY = new TopicVector(new int[0], new double[0], new int[0]);
+
+    private final int[] topicIds;
+    private final double[] weights;
+    private final int[] categories;
+    private final double totalWeight;
+
+    public TopicVector(int[] topicIds, double[] weights, int[] categories) {
+        this.topicIds = topicIds;
+        this.weights = weights;
+        this.categories = categories;
+        double total = 0.0;
+        for (double weight : weights) total += weight;
+        this.totalWeight = total;
+    }
+
+    // Rows of (courseId, topicName, weight, category) as returned by the topic row queries.
+    public static Map<Long, TopicVector> fromRows(List<Object[]> rows, TopicDictionary dictionary) {
+        Map<Long, List<Object[]>> byCourse = new HashMap<>();
+        for (Object[] row : rows) {
+            byCourse.computeIfAbsent(((Number) row[0]).longValue(), k -> new ArrayList<>()).add(row);
+        }
+        Map<Long, TopicVector> vectors = new HashMap<>();
+        for (Map.Entry<Long, List<Object[]>> entry : byCourse.entrySet()) {
+            List<Object[]> topics = entry.getValue();
+            int[] ids = new int[topics.size()];
+            double[] weights = new double[topics.size()];
+            int[] categories = new int[topics.size()];
+            for (int i = 0; i < ids.length; i++) {
+                Object[] row = topics.get(i);
+                ids[i] = dictionary.topicId((String) row[1]);
+                weights[i] = row[2] == null ? 0.0 : ((Number) row[2]).doubleValue();
+                categories[i] = dictionary.categoryId((String) row[3]);
+            }
+            vectors.put(entry.getKey(), sorted(ids, weights, categories));
+        }
+        return vectors;
+    }
+
+    // Sorts the arrays in place (stable insertion sort; per-course topic lists are short).
+    public static TopicVector sorted(int[] ids, double[] weights, int[] categories) {
+        sort(ids, weights, categories, 0, ids.length);
+        return new TopicVector(ids, weights, categories);
+    }
+
+    // Stable sort by topic id of the slice [from, to); categories may be null. The
+    // snapshot writer and the snapshot deltas sort with this too, so every path agrees.
+    public static void sort(int[] ids, double[] weights, int[] categories, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int id = ids[i];
+            double weight = weights[i];
+            int category = categories == null ? 0 : categories[i];
+            int j = i - 1;
+            while (j >= from && ids[j] > id) {
+                ids[j + 1] = ids[j];
+                weights[j + 1] = weights[j];
+                if (categories != null) categories[j + 1] = categories[j];
+                j--;
+            }
+            ids[j + 1] = id;
+            weights[j + 1] = weight;
+            if (categories != null) categories[j + 1] = category;
+        }
+    }
+
+    public int size() { return topicIds.length; }
+    public double totalWeight() { return totalWeight; }
+
+    public long estimatedBytes() {
+        return 64 + topicIds.length * 16L;
+    }
+
+    public boolean contains(int topicId) {
+        return Arrays.binarySearch(topicIds, topicId) >= 0;
+    }
+
+    public double overlap(TopicVector target) {
+        return overlap(target, null);
+    }
+
+    // Same computation, reporting each source topic to the sink when one is given.
+    public double overlap(TopicVector target, OverlapSink sink) {
+        return overlap(topicIds, weights, 0, topicIds.length, target.topicIds, target.weights, 0, target.topicIds.length, sink);
+    }
+
+    // Overlap of two sorted slices [from, to), for callers that keep topics in shared
+    // arrays (the catalog snapshot) rather than one vector per course.
+    public static double overlap(int[] sourceIds, double[] sourceWeights, int sourceFrom, int sourceTo,
+                                 int[] targetIds, double[] targetWeights, int targetFrom, int targetTo) {
+        return overlap(sourceIds, sourceWeights, sourceFrom, sourceTo, targetIds, targetWeights, targetFrom, targetTo, null);
+    }
+
+    private static double overlap(int[] sourceIds, double[] sourceWeights, int sourceFrom, int sourceTo,
+                                  int[] targetIds, double[] targetWeights, int targetFrom, int targetTo, OverlapSink sink) {
+        boolean sourceEmpty = sourceFrom == sourceTo;
+        boolean targetEmpty = targetFrom == targetTo;
+        if (sourceEmpty && targetEmpty) return 100.0;
+        if (sourceEmpty || (targetEmpty && sink == null)) return 0.0;
+        double total = 0.0;
+        double matched = 0.0;
+        int j = targetFrom;
+        for (int i = sourceFrom; i < sourceTo; i++) {
+            int topic = sourceIds[i];
+            total += sourceWeights[i];
+            while (j < targetTo && targetIds[j] < topic) j++;
+            if (j < targetTo && targetIds[j] == topic) {
+                double contributed = Math.min(sourceWeights[i], targetWeights[j]);
+                matched += contributed;
+                if (sink != null) sink.matched(topic, sourceWeights[i], targetWeights[j], contributed);
+            } else if (sink != null) {
+                sink.unmatched(topic, sourceWeights[i]);
+            }
+        }
+        if (targetEmpty) return 0.0;
+        if (total == 0) total = 100.0;
+        return (matched / total) * 100.0;
+    }
+
+    // Overlap restricted to source topics of one category; vacuously 100 when the
+    // source has no weight in that category.
+    public double categoryOverlap(TopicVector target, int category) {
+        double total = 0.0;
+        double matched = 0.0;
+        int j = 0;
+        for (int i = 0; i < topicIds.length; i++) {
+            if (categories[i] != category) continue;
+            total += weights[i];
+            j = seek(target, j, topicIds[i]);
+            if (j < target.topicIds.length && target.topicIds[j] == topicIds[i]) {
+                matched += Math.min(weights[i], target.weights[j]);
+            }
+        }
+        return total == 0 ? 100.0 : (matched / total) * 100.0;
+    }
+
+    public double weightedOverlap(TopicVector target, double[] categoryWeights) {
+        if (size() == 0 && target.size() == 0) return 100.0;
+        if (size() == 0 || target.size() == 0) return 0.0;
+        double total = 0.0;
+        double matched = 0.0;
+        int j = 0;
+        for (int i = 0; i < topicIds.length; i++) {
+            int category = categories[i];
+            double factor = category >= 0 && category < categoryWeights.length ? categoryWeights[category] : 1.0;
+            total += weights[i] * factor;
+            j = seek(target, j, topicIds[i]);
+            if (j < target.topicIds.length && target.topicIds[j] == topicIds[i]) {
+                matched += Math.min(weights[i], target.weights[j]) * factor;
+            }
+        }
+        if (total == 0) total = 100.0;
+        return (matched / total) * 100.0;
+    }
+
+    private static int seek(TopicVector target, int from, int topicId) {
+        int j = from;
+        while (j < target.topicIds.length && target.topicIds[j] < topicId) j++;
+        return j;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.demo.reactive;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+// R2DBC read model of the course table; the university is a plain id.
+@Table("course")
+public class CourseRow {
+    @Id
+    private Long id;
+    private String courseCode;
+    private String courseName;
+    private int creditHours;
+    private String department;
+    private boolean active;
+    private Long universityId;
+
+    public CourseRow() {}
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public String getCourseCode() { return courseCode; }
+    public void setCourseCode(String courseCode) { this.courseCode = courseCode; }
+    public String getCourseName() { return courseName; }
+    public void setCourseName(String courseName) { this.courseName = courseName; }
+    public int getCreditHours() { return creditHours; }
+    public void setCreditHours(int creditHours) { this.creditHours = creditHours; }
+    public String getDepartment() { return department; }
+    public void setDepartment(String department) { this.department = department; }
+    public boolean isActive() { return active; }
+    public void setActive(boolean active) { this.active = active; }
+    public Long getUniversityId() { return universityId; }
+    public void setUniversityId(Long universityId) { this.universityId = universityId; }
+}
@@ -0,0 +1,37 @@
+package com.example.demo.reactive;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+@Table("transfer_rule_criterion")
+public class CriterionRow {
+    @Id
+    private Long id;
+    private String type;
+    private String topicName;
+    private String category;
+    private String department;
+    @Column("criterion_value")
+    private Double value;
+    @JsonIgnore
+    private Long ruleId;
+
+    public CriterionRow() {}
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+    public String getTopicName() { return topicName; }
+    public void setTopicName(String topicName) { this.topicName = topicName; }
+    public String getCategory() { return category; }
+    public void setCategory(String category) { this.category = category; }
+    public String getDepartment() { return department; }
+    public void setDepartment(String department) { this.department = department; }
+    public Double getValue() { return value; }
+    public void setValue(Double value) { this.value = value; }
+    public Long getRuleId() { return ruleId; }
+    public void setRuleId(Long ruleId) { this.ruleId = ruleId; }
+}
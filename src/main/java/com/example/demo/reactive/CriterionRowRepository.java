@@ -0,0 +1,10 @@
+package com.example.demo.reactive;
+
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Flux;
+import java.util.Collection;
+
+public interface CriterionRowRepository extends R2dbcRepository<CriterionRow, Long> {
+    Flux<CriterionRow> findByRuleIdOrderById(Long ruleId);
+    Flux<CriterionRow> findByRuleIdInOrderById(Collection<Long> ruleIds);
+}
@@ -0,0 +1,33 @@
+package com.example.demo.reactive;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+@Table("transfer_evaluation_result")
+public class EvaluationRow {
+    @Id
+    private Long id;
+    private Boolean isEligibleForTransfer;
+    private Double overlapPercentage;
+    private String notes;
+    private String failedCriterion;
+    private Long sourceCourseId;
+    private Long targetCourseId;
+
+    public EvaluationRow() {}
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public Boolean getIsEligibleForTransfer() { return isEligibleForTransfer; }
+    public void setIsEligibleForTransfer(Boolean isEligibleForTransfer) { this.isEligibleForTransfer = isEligibleForTransfer; }
+    public Double getOverlapPercentage() { return overlapPercentage; }
+    public void setOverlapPercentage(Double overlapPercentage) { this.overlapPercentage = overlapPercentage; }
+    public String getNotes() { return notes; }
+    public void setNotes(String notes) { this.notes = notes; }
+    public String getFailedCriterion() { return failedCriterion; }
+    public void setFailedCriterion(String failedCriterion) { this.failedCriterion = failedCriterion; }
+    public Long getSourceCourseId() { return sourceCourseId; }
+    public void setSourceCourseId(Long sourceCourseId) { this.sourceCourseId = sourceCourseId; }
+    public Long getTargetCourseId() { return targetCourseId; }
+    public void setTargetCourseId(Long targetCourseId) { this.targetCourseId = targetCourseId; }
+}
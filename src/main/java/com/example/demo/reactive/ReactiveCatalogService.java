@@ -0,0 +1,84 @@
+package com.example.demo.reactive;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import java.util.Objects;
+
+// Read side of the reactive mode. Lists are returned as they stream from the driver;
+// limitRate keeps the demand sent to R2DBC at fetch-size rows, so a slow client
+// slows the query instead of growing a buffer.
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveCatalogService {
+    @Autowired
+    private CourseRowRepository courseRepo;
+    @Autowired
+    private TopicRowRepository topicRepo;
+    @Autowired
+    private RuleRowRepository ruleRepo;
+    @Autowired
+    private CriterionRowRepository criterionRepo;
+    @Autowired
+    private EvaluationRowRepository evaluationRepo;
+
+    @Value("${reactive.fetch-size:256}")
+    private int fetchSize;
+
+    public Mono<CourseRow> getCourseById(Long id) {
+        Objects.requireNonNull(id, "ID cannot be null");
+        return courseRepo.findById(id)
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("Course not found")));
+    }
+
+    public Flux<CourseRow> getCoursesByUniversity(Long universityId) {
+        return courseRepo.findByUniversityIdAndActiveTrueOrderById(universityId).limitRate(fetchSize);
+    }
+
+    public Mono<TopicRow> getTopicById(Long id) {
+        Objects.requireNonNull(id, "ID cannot be null");
+        return topicRepo.findById(id)
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("Topic not found")));
+    }
+
+    public Flux<TopicRow> getTopicsForCourse(Long courseId) {
+        return courseRepo.existsById(courseId)
+                .flatMapMany(exists -> exists
+                        ? topicRepo.findByCourseIdOrderById(courseId).limitRate(fetchSize)
+                        : Flux.error(new RuntimeException("Course not found")));
+    }
+
+    public Mono<RuleRow> getRuleById(Long id) {
+        Objects.requireNonNull(id, "ID cannot be null");
+        return ruleRepo.findById(id)
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("Rule not found")))
+                .flatMap(this::withCriteria);
+    }
+
+    public Flux<RuleRow> getRulesForUniversities(Long sourceId, Long targetId) {
+        return ruleRepo.findBySourceUniversityIdAndTargetUniversityIdAndActiveTrue(sourceId, targetId)
+                .concatMap(this::withCriteria);
+    }
+
+    public Mono<EvaluationRow> getEvaluationById(Long id) {
+        Objects.requireNonNull(id, "ID cannot be null");
+        return evaluationRepo.findById(id)
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("Evaluation not found")));
+    }
+
+    public Flux<EvaluationRow> getEvaluationsForCourse(Long courseId) {
+        return evaluationRepo.findBySourceCourseIdOrderById(courseId).limitRate(fetchSize);
+    }
+
+    private Mono<RuleRow> withCriteria(RuleRow rule) {
+        return criterionRepo.findByRuleIdOrderById(rule.getId())
+                .collectList()
+                .map(criteria -> {
+                    rule.setCriteria(criteria);
+                    return rule;
+                });
+    }
+}
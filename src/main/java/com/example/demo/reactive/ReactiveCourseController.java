@@ -0,0 +1,60 @@
+package com.example.demo.reactive;
+
+import com.example.demo.catalog.CatalogVersions;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import java.time.Duration;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/api/courses")
+public class ReactiveCourseController {
+
+    @Autowired
+    private ReactiveCatalogService catalogService;
+    @Autowired
+    private CatalogVersions versions;
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<CourseRow>> getById(@PathVariable Long id, ServerWebExchange exchange) {
+        // A version miss is a JDBC query, so it stays off the event loop.
+        return Mono.fromCallable(() -> versions.courseEtag(id))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(etag -> {
+                    boolean notModified = exchange.checkNotModified(etag);
+                    versions.recordHit("course", notModified);
+                    if (notModified) {
+                        return Mono.empty();
+                    }
+                    return catalogService.getCourseById(id).map(course -> ResponseEntity.ok()
+                            .eTag(etag)
+                            .cacheControl(CacheControl.maxAge(Duration.ofSeconds(60)).cachePublic())
+                            .body(course));
+                });
+    }
+
+    @GetMapping(value = "/university/{universityId}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Mono<ResponseEntity<Flux<CourseRow>>> getByUniversity(@PathVariable Long universityId, ServerWebExchange exchange) {
+        return Mono.fromCallable(() -> versions.universityCoursesEtag(universityId))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(etag -> {
+                    boolean notModified = exchange.checkNotModified(etag);
+                    versions.recordHit("university-courses", notModified);
+                    if (notModified) {
+                        return Mono.empty();
+                    }
+                    return Mono.just(ResponseEntity.ok()
+                            .eTag(etag)
+                            .cacheControl(CacheControl.maxAge(Duration.ofSeconds(30)).cachePublic().mustRevalidate())
+                            .body(catalogService.getCoursesByUniversity(universityId)));
+                });
+    }
+}
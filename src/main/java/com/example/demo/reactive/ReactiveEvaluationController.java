@@ -0,0 +1,38 @@
+package com.example.demo.reactive;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/api/transfer-evaluations")
+public class ReactiveEvaluationController {
+
+    @Autowired
+    private ReactiveEvaluationService evaluationService;
+    @Autowired
+    private ReactiveCatalogService catalogService;
+
+    @PostMapping("/evaluate/{sourceCourseId}/{targetCourseId}")
+    public Mono<EvaluationRow> evaluate(@PathVariable Long sourceCourseId, @PathVariable Long targetCourseId,
+                                        @RequestParam(defaultValue = "false") boolean explain) {
+        if (explain) {
+            return Mono.error(new IllegalArgumentException("Explanations are only available in servlet mode"));
+        }
+        return evaluationService.evaluateTransfer(sourceCourseId, targetCourseId);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<EvaluationRow> getById(@PathVariable Long id) {
+        return catalogService.getEvaluationById(id);
+    }
+
+    @GetMapping(value = "/course/{courseId}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<EvaluationRow> getByCourse(@PathVariable Long courseId) {
+        return catalogService.getEvaluationsForCourse(courseId);
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.demo.reactive;
+
+import com.example.demo.catalog.CatalogSnapshotService;
+import com.example.demo.catalog.ShardedCatalog;
+import com.example.demo.entity.Course;
+import com.example.demo.entity.TransferEvaluationResult;
+import com.example.demo.entity.University;
+import com.example.demo.evaluation.CompiledPolicy;
+import com.example.demo.evaluation.PolicyCache;
+import com.example.demo.evaluation.TopicDictionary;
+import com.example.demo.evaluation.TopicVector;
+import com.example.demo.service.impl.TransferEvaluationServiceImpl;
+import com.example.demo.stats.ArticulationStatsAccumulator;
+import com.example.demo.store.EvaluationResultStore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+// Same scoring as the servlet path (PolicyCache, TopicVector, decide()); only the
+// course and topic reads go through R2DBC. Results are written through the
+// EvaluationResultStore like every other path, so any configured store sees them.
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveEvaluationService {
+    @Autowired
+    private CourseRowRepository courseRepo;
+    @Autowired
+    private TopicRowRepository topicRepo;
+    @Autowired
+    private EvaluationResultStore resultStore;
+    @Autowired
+    private PolicyCache policyCache;
+    @Autowired
+    private CatalogSnapshotService snapshotService;
+    @Autowired
+    private TopicDictionary dictionary;
+    @Autowired
+    private ShardedCatalog catalog;
+    @Autowired
+    private TransferEvaluationServiceImpl evaluator;
+    @Autowired
+    private ArticulationStatsAccumulator stats;
+
+    public Mono<EvaluationRow> evaluateTransfer(Long sourceCourseId, Long targetCourseId) {
+        Objects.requireNonNull(sourceCourseId, "Source course ID cannot be null");
+        Objects.requireNonNull(targetCourseId, "Target course ID cannot be null");
+
+        Mono<CourseRow> source = courseRepo.findById(sourceCourseId)
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("Source course not found")));
+        Mono<CourseRow> target = courseRepo.findById(targetCourseId)
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("Target course not found")));
+
+        return Mono.zip(source, target).flatMap(courses -> {
+            CourseRow sourceCourse = courses.getT1();
+            CourseRow targetCourse = courses.getT2();
+            if (!sourceCourse.isActive() || !targetCourse.isActive()) {
+                return Mono.error(new IllegalArgumentException("Both courses must be active"));
+            }
+            return policy(sourceCourse.getUniversityId(), targetCourse.getUniversityId())
+                    .flatMap(policy -> score(sourceCourse, targetCourse, policy))
+                    .flatMap(this::save)
+                    .doOnNext(saved -> stats.record(sourceCourse.getUniversityId(), targetCourse.getUniversityId(), 1,
+                            Boolean.TRUE.equals(saved.getIsEligibleForTransfer()) ? 1 : 0,
+                            saved.getOverlapPercentage() == null ? 0.0 : saved.getOverlapPercentage()));
+        });
+    }
+
+    // The stores block (JDBC or file I/O), so the write stays off the event loop.
+    private Mono<EvaluationRow> save(TransferEvaluationResult result) {
+        return Mono.fromCallable(() -> row(resultStore.save(result)))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Mono<CompiledPolicy> policy(Long sourceUniversityId, Long targetUniversityId) {
+        CompiledPolicy cached = policyCache.cachedPolicy(sourceUniversityId, targetUniversityId);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        // The first evaluation of a pair compiles its rules with a JPA query; keep that off the event loop.
+        return Mono.fromCallable(() -> policyCache.policyFor(sourceUniversityId, targetUniversityId))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Mono<TransferEvaluationResult> score(CourseRow source, CourseRow target, CompiledPolicy policy) {
+        Double snapshotOverlap = policy.needsTopics() ? null : snapshotService.overlap(source.getId(), target.getId());
+        if (snapshotOverlap != null) {
+            return Mono.just(decide(source, target, policy, snapshotOverlap, null, null));
+        }
+        return topicRepo.findByCourseIdInOrderById(List.of(source.getId(), target.getId()))
+                .map(topic -> new Object[] {topic.getCourseId(), topic.getTopicName(), topic.getWeightPercentage(), topic.getCategory()})
+                .collectList()
+                .map(rows -> {
+                    Map<Long, TopicVector> vectors = TopicVector.fromRows(rows, dictionary);
+                    TopicVector sourceVector = vectors.getOrDefault(source.getId(), TopicVector.EMPTY);
+                    TopicVector targetVector = vectors.getOrDefault(target.getId(), TopicVector.EMPTY);
+                    return decide(source, target, policy, sourceVector.overlap(targetVector), sourceVector, targetVector);
+                });
+    }
+
+    private TransferEvaluationResult decide(CourseRow source, CourseRow target, CompiledPolicy policy, double overlap,
+                                            TopicVector sourceVector, TopicVector targetVector) {
+        TransferEvaluationResult result = new TransferEvaluationResult();
+        result.setSourceCourse(course(source));
+        result.setTargetCourse(course(target));
+        int departmentId = catalog.departmentId(source.getUniversityId(), source.getId(), source.getDepartment());
+        evaluator.decide(result, policy, overlap, departmentId, sourceVector, targetVector, null);
+        return result;
+    }
+
+    private static EvaluationRow row(TransferEvaluationResult result) {
+        EvaluationRow row = new EvaluationRow();
+        row.setId(result.getId());
+        row.setSourceCourseId(result.getSourceCourse().getId());
+        row.setTargetCourseId(result.getTargetCourse().getId());
+        row.setOverlapPercentage(result.getOverlapPercentage());
+        row.setIsEligibleForTransfer(result.getIsEligibleForTransfer());
+        row.setFailedCriterion(result.getFailedCriterion());
+        row.setNotes(result.getNotes());
+        return row;
+    }
+
+    private Course course(CourseRow row) {
+        Course course = new Course();
+        course.setId(row.getId());
+        course.setCreditHours(row.getCreditHours());
+        course.setDepartment(row.getDepartment());
+        if (row.getUniversityId() != null) {
+            University university = new University();
+            university.setId(row.getUniversityId());
+            course.setUniversity(university);
+        }
+        return course;
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.demo.reactive;
+
+import com.example.demo.catalog.CatalogVersions;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import java.time.Duration;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/api/transfer-rules")
+public class ReactiveRuleController {
+
+    @Autowired
+    private ReactiveCatalogService catalogService;
+    @Autowired
+    private CatalogVersions versions;
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<RuleRow>> getById(@PathVariable Long id, ServerWebExchange exchange) {
+        return Mono.fromCallable(() -> versions.ruleEtag(id))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(etag -> {
+                    boolean notModified = exchange.checkNotModified(etag);
+                    versions.recordHit("rule", notModified);
+                    if (notModified) {
+                        return Mono.empty();
+                    }
+                    return catalogService.getRuleById(id).map(rule -> ResponseEntity.ok()
+                            .eTag(etag)
+                            .cacheControl(CacheControl.maxAge(Duration.ofSeconds(300)).cachePublic())
+                            .body(rule));
+                });
+    }
+
+    @GetMapping("/pair/{sourceId}/{targetId}")
+    public Mono<ResponseEntity<Flux<RuleRow>>> getRulesPair(@PathVariable Long sourceId, @PathVariable Long targetId,
+            ServerWebExchange exchange) {
+        return Mono.fromCallable(() -> versions.rulePairEtag(sourceId, targetId))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(etag -> {
+                    boolean notModified = exchange.checkNotModified(etag);
+                    versions.recordHit("rule-pair", notModified);
+                    if (notModified) {
+                        return Mono.empty();
+                    }
+                    return Mono.just(ResponseEntity.ok()
+                            .eTag(etag)
+                            .cacheControl(CacheControl.maxAge(Duration.ofSeconds(300)).cachePublic())
+                            .body(catalogService.getRulesForUniversities(sourceId, targetId)));
+                });
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.demo.reactive;
+
+import com.example.demo.catalog.CatalogVersions;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import java.time.Duration;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/api/topics")
+public class ReactiveTopicController {
+
+    @Autowired
+    private ReactiveCatalogService catalogService;
+    @Autowired
+    private CatalogVersions versions;
+
+    @GetMapping("/{id}")
+    public Mono<TopicRow> getById(@PathVariable Long id) {
+        return catalogService.getTopicById(id);
+    }
+
+    @GetMapping(value = "/course/{courseId}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Mono<ResponseEntity<Flux<TopicRow>>> getByCourse(@PathVariable Long courseId, ServerWebExchange exchange) {
+        return Mono.fromCallable(() -> versions.courseTopicsEtag(courseId))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(etag -> {
+                    boolean notModified = exchange.checkNotModified(etag);
+                    versions.recordHit("course-topics", notModified);
+                    if (notModified) {
+                        return Mono.empty();
+                    }
+                    return Mono.just(ResponseEntity.ok()
+                            .eTag(etag)
+                            .cacheControl(CacheControl.maxAge(Duration.ofSeconds(60)).cachePublic())
+                            .body(catalogService.getTopicsForCourse(courseId)));
+                });
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.demo.reactive;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.relational.core.mapping.Table;
+import java.util.ArrayList;
+import java.util.List;
+
+// Criteria are a separate table; the repositories attach them after the rule is read.
+@Table("transfer_rule")
+public class RuleRow {
+    @Id
+    private Long id;
+    private Double minimumOverlapPercentage;
+    private Integer creditHourTolerance;
+    private boolean active;
+    private Long sourceUniversityId;
+    private Long targetUniversityId;
+    @Transient
+    private List<CriterionRow> criteria = new ArrayList<>();
+
+    public RuleRow() {}
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public Double getMinimumOverlapPercentage() { return minimumOverlapPercentage; }
+    public void setMinimumOverlapPercentage(Double minimumOverlapPercentage) { this.minimumOverlapPercentage = minimumOverlapPercentage; }
+    public Integer getCreditHourTolerance() { return creditHourTolerance; }
+    public void setCreditHourTolerance(Integer creditHourTolerance) { this.creditHourTolerance = creditHourTolerance; }
+    public boolean isActive() { return active; }
+    public void setActive(boolean active) { this.active = active; }
+    public Long getSourceUniversityId() { return sourceUniversityId; }
+    public void setSourceUniversityId(Long sourceUniversityId) { this.sourceUniversityId = sourceUniversityId; }
+    public Long getTargetUniversityId() { return targetUniversityId; }
+    public void setTargetUniversityId(Long targetUniversityId) { this.targetUniversityId = targetUniversityId; }
+    public List<CriterionRow> getCriteria() { return criteria; }
+    public void setCriteria(List<CriterionRow> criteria) { this.criteria = criteria; }
+}
@@ -0,0 +1,8 @@
+package com.example.demo.reactive;
+
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Flux;
+
+public interface RuleRowRepository extends R2dbcRepository<RuleRow, Long> {
+    Flux<RuleRow> findBySourceUniversityIdAndTargetUniversityIdAndActiveTrue(Long sourceId, Long targetId);
+}
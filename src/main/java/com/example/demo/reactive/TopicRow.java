@@ -0,0 +1,27 @@
+package com.example.demo.reactive;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+@Table("course_content_topic")
+public class TopicRow {
+    @Id
+    private Long id;
+    private String topicName;
+    private Double weightPercentage;
+    private String category;
+    private Long courseId;
+
+    public TopicRow() {}
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public String getTopicName() { return topicName; }
+    public void setTopicName(String topicName) { this.topicName = topicName; }
+    public Double getWeightPercentage() { return weightPercentage; }
+    public void setWeightPercentage(Double weightPercentage) { this.weightPercentage = weightPercentage; }
+    public String getCategory() { return category; }
+    public void setCategory(String category) { this.category = category; }
+    public Long getCourseId() { return courseId; }
+    public void setCourseId(Long courseId) { this.courseId = courseId; }
+}
@@ -0,0 +1,10 @@
+package com.example.demo.reactive;
+
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Flux;
+import java.util.Collection;
+
+public interface TopicRowRepository extends R2dbcRepository<TopicRow, Long> {
+    Flux<TopicRow> findByCourseIdOrderById(Long courseId);
+    Flux<TopicRow> findByCourseIdInOrderById(Collection<Long> courseIds);
+}
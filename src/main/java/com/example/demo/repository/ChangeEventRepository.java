@@ -0,0 +1,29 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.ChangeEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface ChangeEventRepository extends JpaRepository<ChangeEvent, Long> {
+    List<ChangeEvent> findTop500ByIdGreaterThanOrderByIdAsc(Long id);
+    List<ChangeEvent> findByIdInOrderByIdAsc(Collection<Long> ids);
+
+    @Query("select coalesce(max(e.id), 0) from ChangeEvent e")
+    Long findMaxId();
+
+    @Query("select coalesce(min(e.id), 0) from ChangeEvent e")
+    Long findMinId();
+
+    @Query("select distinct e.courseId from ChangeEvent e where e.entityType = 'TOPIC' and e.courseId is not null and (e.id > :afterId or e.createdAt >= :since)")
+    List<Long> findTopicCourseIdsSince(Long afterId, Instant since);
+
+    @Modifying
+    @Transactional
+    @Query("delete from ChangeEvent e where e.createdAt < :cutoff")
+    int deleteOlderThan(Instant cutoff);
+}
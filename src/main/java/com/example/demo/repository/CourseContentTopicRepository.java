@@ -1,9 +1,27 @@
 package com.example.demo.repository;
 
 import com.example.demo.entity.CourseContentTopic;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface CourseContentTopicRepository extends JpaRepository<CourseContentTopic, Long> {
     List<CourseContentTopic> findByCourseId(Long courseId);
-}
\ No newline at end of file
+
+    @Query("select max(t.updatedAt), count(t), max(c.updatedAt), max(u.updatedAt) from CourseContentTopic t join t.course c left join c.university u where c.id = :courseId")
+    List<Object[]> findVersionRow(Long courseId);
+
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "-2147483648"))
+    @Query("select c.id, t.topicName, t.weightPercentage from CourseContentTopic t join t.course c order by c.id, t.id")
+    Stream<Object[]> streamSnapshotRows();
+
+    @Query("select c.id, t.topicName, t.weightPercentage, t.category from CourseContentTopic t join t.course c where c.id in :courseIds order by t.id")
+    List<Object[]> findTopicRowsByCourseIds(Collection<Long> courseIds);
+
+    @Query("select c.id, t.topicName, t.weightPercentage, t.category from CourseContentTopic t join t.course c where c.university.id = :universityId and c.active = true order by t.id")
+    List<Object[]> findActiveTopicRowsByUniversity(Long universityId);
+}
@@ -1,11 +1,36 @@
 package com.example.demo.repository;
 
 import com.example.demo.entity.Course;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface CourseRepository extends JpaRepository<Course, Long> {
     Optional<Course> findByUniversityIdAndCourseCode(Long universityId, String courseCode);
     List<Course> findByUniversityIdAndActiveTrue(Long universityId);
-}
\ No newline at end of file
+    List<Course> findByUniversityId(Long universityId);
+
+    // Ordered so repeated searches return the same page.
+    @Query("select c from Course c join c.university u where c.active = true and (lower(c.courseCode) like :pattern escape '\\' or lower(c.courseName) like :pattern escape '\\') order by u.id, c.courseCode, c.id")
+    List<Course> searchActive(String pattern, Pageable pageable);
+
+    @Query("select c.updatedAt, u.updatedAt from Course c left join c.university u where c.id = :courseId")
+    List<Object[]> findVersionRow(Long courseId);
+
+    // Inactive courses count towards the max: deactivating one must change the list's version.
+    @Query("select max(c.updatedAt), sum(case when c.active = true then 1 else 0 end), max(u.updatedAt) from Course c join c.university u where u.id = :universityId")
+    List<Object[]> findUniversityCoursesVersionRow(Long universityId);
+
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "-2147483648"))
+    @Query("select c.id, u.id, c.creditHours, c.active, c.courseCode, c.courseName from Course c left join c.university u order by c.id")
+    Stream<Object[]> streamSnapshotRows();
+
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "-2147483648"))
+    @Query("select c.id, c.courseCode, c.courseName, c.creditHours, c.active, c.university.id from Course c where c.university.id = :universityId and c.active = true order by c.id")
+    Stream<Object[]> streamActiveRowsByUniversity(Long universityId);
+}
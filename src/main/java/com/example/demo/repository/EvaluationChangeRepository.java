@@ -0,0 +1,10 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.EvaluationChange;
+import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.List;
+
+public interface EvaluationChangeRepository extends JpaRepository<EvaluationChange, Long> {
+    List<EvaluationChange> findTop100ByOrderByIdDesc();
+    List<EvaluationChange> findBySourceCourseIdOrderByIdDesc(Long sourceCourseId);
+}
@@ -0,0 +1,12 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.EvaluationExplanationBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import java.util.Collection;
+import java.util.List;
+
+public interface EvaluationExplanationBlobRepository extends JpaRepository<EvaluationExplanationBlob, Long> {
+    @Query("select e.evaluationId from EvaluationExplanationBlob e where e.evaluationId in :ids")
+    List<Long> findExistingIds(Collection<Long> ids);
+}
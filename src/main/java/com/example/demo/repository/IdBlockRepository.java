@@ -0,0 +1,22 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.IdBlock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface IdBlockRepository extends JpaRepository<IdBlock, String> {
+    @Modifying
+    @Query(value = "insert ignore into id_block (name, next_value) values (:name, 1)", nativeQuery = true)
+    int createIfMissing(String name);
+
+    // Never hands out ids below the current maximum, so blocks stay clear of rows
+    // inserted through IDENTITY before every insert took its id from a block.
+    @Modifying
+    @Query(value = "update id_block set next_value = last_insert_id(greatest(next_value, "
+            + "(select coalesce(max(id), 0) + 1 from transfer_evaluation_result)) + :size) where name = :name", nativeQuery = true)
+    int advanceEvaluationBlock(String name, int size);
+
+    @Query(value = "select last_insert_id()", nativeQuery = true)
+    long lastInsertId();
+}
@@ -1,9 +1,27 @@
 package com.example.demo.repository;
 
 import com.example.demo.entity.TransferEvaluationResult;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface TransferEvaluationResultRepository extends JpaRepository<TransferEvaluationResult, Long> {
     List<TransferEvaluationResult> findBySourceCourseId(Long sourceCourseId);
-}
\ No newline at end of file
+
+    @Query("select r from TransferEvaluationResult r where (r.sourceCourse.id = :courseId or r.targetCourse.id = :courseId) and r.supersededById is null order by r.id")
+    List<TransferEvaluationResult> findInvolvingCourse(Long courseId);
+
+    @Query("select r from TransferEvaluationResult r where r.sourceCourse.university.id = :sourceUniversityId and r.targetCourse.university.id = :targetUniversityId and r.supersededById is null order by r.id")
+    List<TransferEvaluationResult> findForUniversityPair(Long sourceUniversityId, Long targetUniversityId);
+
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "-2147483648"))
+    @Query("select r.id, r.sourceCourse.id, r.targetCourse.id, r.overlapPercentage, r.isEligibleForTransfer, r.notes from TransferEvaluationResult r where r.sourceCourse.id = :courseId order by r.id")
+    Stream<Object[]> streamRowsBySourceCourse(Long courseId);
+
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "-2147483648"))
+    @Query("select r.sourceCourse.id, r.targetCourse.id, r.overlapPercentage, r.isEligibleForTransfer from TransferEvaluationResult r where r.sourceCourse.university.id = :sourceUniversityId and r.targetCourse.university.id = :targetUniversityId order by r.sourceCourse.id, r.targetCourse.id, r.id desc")
+    Stream<Object[]> streamMatrixRows(Long sourceUniversityId, Long targetUniversityId);
+}
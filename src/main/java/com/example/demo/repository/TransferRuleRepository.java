@@ -2,8 +2,15 @@ package com.example.demo.repository;
 
 import com.example.demo.entity.TransferRule;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import java.util.List;
 
 public interface TransferRuleRepository extends JpaRepository<TransferRule, Long> {
     List<TransferRule> findBySourceUniversityIdAndTargetUniversityIdAndActiveTrue(Long sourceId, Long targetId);
+
+    @Query("select r.updatedAt, su.updatedAt, tu.updatedAt from TransferRule r left join r.sourceUniversity su left join r.targetUniversity tu where r.id = :ruleId")
+    List<Object[]> findVersionRow(Long ruleId);
+
+    @Query("select max(r.updatedAt), sum(case when r.active = true then 1 else 0 end), max(su.updatedAt), max(tu.updatedAt) from TransferRule r join r.sourceUniversity su join r.targetUniversity tu where su.id = :sourceId and tu.id = :targetId")
+    List<Object[]> findPairVersionRow(Long sourceId, Long targetId);
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.UniversityPairStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import java.util.List;
+import java.util.Optional;
+
+public interface UniversityPairStatsRepository extends JpaRepository<UniversityPairStats, Long> {
+    Optional<UniversityPairStats> findBySourceUniversityIdAndTargetUniversityId(Long sourceUniversityId, Long targetUniversityId);
+    List<UniversityPairStats> findBySourceUniversityIdOrderByTargetUniversityId(Long sourceUniversityId);
+
+    // Deltas from several nodes add up, so this never overwrites another node's flush.
+    @Modifying
+    @Query(value = "insert into university_pair_stats (source_university_id, target_university_id, evaluation_count, "
+            + "eligible_count, overlap_sum, updated_at) values (:source, :target, :count, :eligible, :overlap, now(6)) "
+            + "on duplicate key update evaluation_count = evaluation_count + :count, eligible_count = eligible_count + :eligible, "
+            + "overlap_sum = overlap_sum + :overlap, updated_at = now(6)", nativeQuery = true)
+    int addDelta(Long source, Long target, long count, long eligible, double overlap);
+
+    // Full scan; only used to backfill or repair the table.
+    @Query(value = "select sc.university_id, tc.university_id, count(*), "
+            + "sum(case when r.is_eligible_for_transfer then 1 else 0 end), coalesce(sum(r.overlap_percentage), 0) "
+            + "from transfer_evaluation_result r join course sc on sc.id = r.source_course_id "
+            + "join course tc on tc.id = r.target_course_id "
+            + "where sc.university_id is not null and tc.university_id is not null and r.superseded_by_id is null "
+            + "group by sc.university_id, tc.university_id", nativeQuery = true)
+    List<Object[]> aggregateFromResults();
+}
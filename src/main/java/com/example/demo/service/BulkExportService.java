@@ -0,0 +1,11 @@
+package com.example.demo.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+import java.io.Writer;
+
+public interface BulkExportService {
+    void writeCourses(Long universityId, JsonGenerator generator) throws IOException;
+    void writeEvaluations(Long courseId, JsonGenerator generator) throws IOException;
+    void writeArticulationMatrix(Long sourceUniversityId, Long targetUniversityId, Writer writer) throws IOException;
+}
@@ -0,0 +1,37 @@
+package com.example.demo.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.http.MediaType;
+import java.util.List;
+
+public enum BulkFormat {
+    JSON(MediaType.APPLICATION_JSON, new JsonFactory()),
+    SMILE(MediaType.valueOf("application/x-jackson-smile"), new SmileFactory()),
+    CBOR(MediaType.valueOf("application/cbor"), new CBORFactory());
+
+    private final MediaType mediaType;
+    private final JsonFactory factory;
+
+    BulkFormat(MediaType mediaType, JsonFactory factory) {
+        this.mediaType = mediaType;
+        this.factory = factory;
+    }
+
+    public MediaType getMediaType() { return mediaType; }
+    public JsonFactory getFactory() { return factory; }
+
+    public static BulkFormat fromAccept(String accept) {
+        if (accept == null || accept.isBlank()) return JSON;
+        List<MediaType> accepted = MediaType.parseMediaTypes(accept);
+        for (MediaType type : accepted) {
+            for (BulkFormat format : values()) {
+                if (type.isCompatibleWith(format.mediaType) && !type.isWildcardType()) {
+                    return format;
+                }
+            }
+        }
+        return JSON;
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.demo.service;
+
+import com.example.demo.catalog.CourseRecord;
+import com.example.demo.dto.ArticulationMatch;
+import java.util.List;
+
+public interface CatalogSearchService {
+    List<CourseRecord> searchCourses(String query, List<Long> universityIds, int limit);
+    List<ArticulationMatch> articulate(Long sourceCourseId, List<Long> targetUniversityIds);
+}
@@ -0,0 +1,11 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.EvaluationChange;
+import java.util.List;
+
+public interface ReevaluationService {
+    int reevaluateCourse(Long courseId, String triggerType, Long triggerId);
+    int reevaluateUniversityPair(Long sourceUniversityId, Long targetUniversityId, String triggerType, Long triggerId);
+    List<EvaluationChange> getRecentChanges();
+    List<EvaluationChange> getChangesForCourse(Long courseId);
+}
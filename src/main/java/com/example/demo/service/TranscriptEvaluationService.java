@@ -0,0 +1,8 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.TranscriptResponse;
+import java.util.List;
+
+public interface TranscriptEvaluationService {
+    TranscriptResponse evaluateTranscript(List<Long> sourceCourseIds, Long targetUniversityId);
+}
@@ -1,10 +1,13 @@
 package com.example.demo.service;
 
+import com.example.demo.dto.EvaluationExplanation;
 import com.example.demo.entity.TransferEvaluationResult;
 import java.util.List;
 
 public interface TransferEvaluationService {
     TransferEvaluationResult evaluateTransfer(Long sourceCourseId, Long targetCourseId);
+    TransferEvaluationResult evaluateTransfer(Long sourceCourseId, Long targetCourseId, boolean explain);
     TransferEvaluationResult getEvaluationById(Long id);
     List<TransferEvaluationResult> getEvaluationsForCourse(Long courseId);
+    EvaluationExplanation getExplanation(Long evaluationId);
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.example.demo.service.impl;
 
+import com.example.demo.diagnostics.PasswordHashEvent;
 import com.example.demo.entity.User;
 import com.example.demo.repository.UserRepository;
 import com.example.demo.service.AuthService;
@@ -22,7 +23,10 @@ public class AuthServiceImpl implements AuthService {
         if (userRepository.findByEmail(email).isPresent()) {
             throw new IllegalArgumentException("Email already exists");
         }
-        User user = new User(email, passwordEncoder.encode(password), Set.of("ROLE_USER"));
+        PasswordHashEvent event = PasswordHashEvent.start("encode");
+        String hash = passwordEncoder.encode(password);
+        event.finish(hash, true);
+        User user = new User(email, hash, Set.of("ROLE_USER"));
         return userRepository.save(user);
     }
 
@@ -30,7 +34,10 @@ public class AuthServiceImpl implements AuthService {
     public String login(String email, String password) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new IllegalArgumentException("Invalid credentials"));
-        if (!passwordEncoder.matches(password, user.getPassword())) {
+        PasswordHashEvent event = PasswordHashEvent.start("matches");
+        boolean matched = passwordEncoder.matches(password, user.getPassword());
+        event.finish(user.getPassword(), matched);
+        if (!matched) {
             throw new IllegalArgumentException("Invalid credentials");
         }
         return jwtTokenProvider.createToken(user.getId(), user.getEmail(), user.getRoles());
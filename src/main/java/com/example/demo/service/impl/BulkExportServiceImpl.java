@@ -0,0 +1,131 @@
+package com.example.demo.service.impl;
+
+import com.example.demo.entity.Course;
+import com.example.demo.repository.CourseRepository;
+import com.example.demo.service.BulkExportService;
+import com.example.demo.store.EvaluationResultStore;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.stream.Stream;
+
+@Service
+public class BulkExportServiceImpl implements BulkExportService {
+    private static final int FLUSH_EVERY = 1000;
+
+    @Autowired
+    private CourseRepository courseRepo;
+    @Autowired
+    private EvaluationResultStore resultStore;
+
+    @Override
+    @Transactional(readOnly = true)
+    public void writeCourses(Long universityId, JsonGenerator generator) throws IOException {
+        generator.writeStartArray();
+        try (Stream<Object[]> rows = courseRepo.streamActiveRowsByUniversity(universityId)) {
+            Iterator<Object[]> it = rows.iterator();
+            int count = 0;
+            while (it.hasNext()) {
+                Object[] row = it.next();
+                generator.writeStartObject();
+                generator.writeNumberField("id", ((Number) row[0]).longValue());
+                generator.writeStringField("courseCode", (String) row[1]);
+                generator.writeStringField("courseName", (String) row[2]);
+                generator.writeNumberField("creditHours", ((Number) row[3]).intValue());
+                generator.writeBooleanField("active", Boolean.TRUE.equals(row[4]));
+                generator.writeNumberField("universityId", ((Number) row[5]).longValue());
+                generator.writeEndObject();
+                if (++count % FLUSH_EVERY == 0) generator.flush();
+            }
+        }
+        generator.writeEndArray();
+        generator.flush();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void writeEvaluations(Long courseId, JsonGenerator generator) throws IOException {
+        generator.writeStartArray();
+        try (Stream<Object[]> rows = resultStore.streamRowsBySourceCourse(courseId)) {
+            Iterator<Object[]> it = rows.iterator();
+            int count = 0;
+            while (it.hasNext()) {
+                Object[] row = it.next();
+                generator.writeStartObject();
+                generator.writeNumberField("id", ((Number) row[0]).longValue());
+                generator.writeNumberField("sourceCourseId", ((Number) row[1]).longValue());
+                generator.writeNumberField("targetCourseId", ((Number) row[2]).longValue());
+                if (row[3] != null) generator.writeNumberField("overlapPercentage", ((Number) row[3]).doubleValue());
+                if (row[4] != null) generator.writeBooleanField("isEligibleForTransfer", (Boolean) row[4]);
+                if (row[5] != null) generator.writeStringField("notes", (String) row[5]);
+                generator.writeEndObject();
+                if (++count % FLUSH_EVERY == 0) generator.flush();
+            }
+        }
+        generator.writeEndArray();
+        generator.flush();
+    }
+
+    // Dictionary-encoded CSV: S/T lines define a course index the first time it is
+    // used, M lines reference those indexes. Only the latest result per pair is written.
+    @Override
+    @Transactional(readOnly = true)
+    public void writeArticulationMatrix(Long sourceUniversityId, Long targetUniversityId, Writer writer) throws IOException {
+        Map<Long, String> sourceCodes = codes(sourceUniversityId);
+        Map<Long, String> targetCodes = codes(targetUniversityId);
+        Map<Long, Integer> sourceIndex = new HashMap<>();
+        Map<Long, Integer> targetIndex = new HashMap<>();
+
+        writer.write("# articulation-matrix v1 source=" + sourceUniversityId + " target=" + targetUniversityId + "\n");
+        try (Stream<Object[]> rows = resultStore.streamMatrixRows(sourceUniversityId, targetUniversityId)) {
+            Iterator<Object[]> it = rows.iterator();
+            long lastSource = -1;
+            long lastTarget = -1;
+            while (it.hasNext()) {
+                Object[] row = it.next();
+                long sourceId = ((Number) row[0]).longValue();
+                long targetId = ((Number) row[1]).longValue();
+                if (sourceId == lastSource && targetId == lastTarget) continue;
+                lastSource = sourceId;
+                lastTarget = targetId;
+
+                int s = index(sourceIndex, sourceId, "S", sourceCodes, writer);
+                int t = index(targetIndex, targetId, "T", targetCodes, writer);
+                double overlap = row[2] == null ? 0.0 : ((Number) row[2]).doubleValue();
+                writer.write("M," + s + "," + t + "," + overlap + "," + (Boolean.TRUE.equals(row[3]) ? 1 : 0) + "\n");
+            }
+        }
+        writer.flush();
+    }
+
+    private Map<Long, String> codes(Long universityId) {
+        Map<Long, String> codes = new HashMap<>();
+        for (Course course : courseRepo.findByUniversityId(universityId)) {
+            codes.put(course.getId(), course.getCourseCode());
+        }
+        return codes;
+    }
+
+    private int index(Map<Long, Integer> dictionary, long courseId, String kind, Map<Long, String> codes,
+                      Writer writer) throws IOException {
+        Integer index = dictionary.get(courseId);
+        if (index == null) {
+            index = dictionary.size();
+            dictionary.put(courseId, index);
+            writer.write(kind + "," + index + "," + courseId + "," + csv(codes.get(courseId)) + "\n");
+        }
+        return index;
+    }
+
+    private String csv(String value) {
+        if (value == null) return "";
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) return value;
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.demo.service.impl;
+
+import com.example.demo.catalog.CourseRecord;
+import com.example.demo.catalog.ShardedCatalog;
+import com.example.demo.catalog.UniversityShard;
+import com.example.demo.dto.ArticulationMatch;
+import com.example.demo.entity.Course;
+import com.example.demo.evaluation.CompiledPolicy;
+import com.example.demo.evaluation.PolicyCache;
+import com.example.demo.evaluation.TopicDictionary;
+import com.example.demo.evaluation.TopicVector;
+import com.example.demo.repository.CourseRepository;
+import com.example.demo.service.CatalogSearchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+@Service
+public class CatalogSearchServiceImpl implements CatalogSearchService {
+    private static final int MAX_LIMIT = 200;
+    private static final int MAX_UNIVERSITIES = 20;
+    private static final Comparator<CourseRecord> SEARCH_ORDER = Comparator.comparingLong(CourseRecord::getUniversityId)
+            .thenComparing(CourseRecord::getCourseCode, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparingLong(CourseRecord::getId);
+
+    @Autowired
+    private ShardedCatalog catalog;
+    @Autowired
+    private CourseRepository courseRepo;
+    @Autowired
+    private PolicyCache policyCache;
+    @Autowired
+    private TopicDictionary dictionary;
+
+    @Override
+    public List<CourseRecord> searchCourses(String query, List<Long> universityIds, int limit) {
+        if (query == null || query.trim().isEmpty()) {
+            throw new IllegalArgumentException("Search query is required");
+        }
+        String needle = query.trim().toLowerCase(Locale.ROOT);
+        int max = Math.max(1, Math.min(limit, MAX_LIMIT));
+        // Searching every university through the shards would load them all and evict the
+        // working set, so an unfiltered search is a single paged query instead.
+        if (universityIds == null || universityIds.isEmpty()) {
+            String pattern = "%" + needle.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+            return courseRepo.searchActive(pattern, PageRequest.of(0, max)).stream()
+                    .map(course -> CourseRecord.of(course, dictionary.departmentId(course.getDepartment())))
+                    .toList();
+        }
+
+        LinkedHashSet<Long> ids = new LinkedHashSet<>(universityIds);
+        if (ids.size() > MAX_UNIVERSITIES) {
+            throw new IllegalArgumentException("At most " + MAX_UNIVERSITIES + " universities allowed");
+        }
+        List<List<CourseRecord>> perShard = catalog.fanOut(ids, shard -> {
+            List<CourseRecord> matches = new ArrayList<>();
+            for (int i = 0; i < shard.size(); i++) {
+                CourseRecord course = shard.course(i);
+                if (contains(course.getCourseCode(), needle) || contains(course.getCourseName(), needle)) {
+                    matches.add(course);
+                }
+            }
+            matches.sort(SEARCH_ORDER);
+            return matches.size() > max ? matches.subList(0, max) : matches;
+        });
+        List<CourseRecord> results = new ArrayList<>();
+        for (List<CourseRecord> matches : perShard) {
+            results.addAll(matches);
+        }
+        results.sort(SEARCH_ORDER);
+        return results.size() > max ? new ArrayList<>(results.subList(0, max)) : results;
+    }
+
+    @Override
+    public List<ArticulationMatch> articulate(Long sourceCourseId, List<Long> targetUniversityIds) {
+        Objects.requireNonNull(sourceCourseId, "Source course ID cannot be null");
+        // Every target is a shard to load, so an open-ended fan-out would evict the working set.
+        if (targetUniversityIds == null || targetUniversityIds.isEmpty()) {
+            throw new IllegalArgumentException("Target university IDs are required");
+        }
+        LinkedHashSet<Long> ids = new LinkedHashSet<>(targetUniversityIds);
+        if (ids.size() > MAX_UNIVERSITIES) {
+            throw new IllegalArgumentException("At most " + MAX_UNIVERSITIES + " target universities allowed");
+        }
+        Course source = courseRepo.findById(sourceCourseId)
+                .orElseThrow(() -> new RuntimeException("Source course not found"));
+        if (!source.isActive()) {
+            throw new IllegalArgumentException("Source course is not active");
+        }
+        Long sourceUniversityId = source.getUniversity() == null ? null : source.getUniversity().getId();
+        TopicVector sourceVector = TopicVector.EMPTY;
+        if (sourceUniversityId != null) {
+            UniversityShard home = catalog.shard(sourceUniversityId);
+            int index = home.indexOf(sourceCourseId);
+            if (index >= 0) sourceVector = home.vector(index);
+        }
+        TopicVector sourceTopics = sourceVector;
+        int department = catalog.departmentId(sourceUniversityId, sourceCourseId, source.getDepartment());
+
+        List<ArticulationMatch> perShard = catalog.fanOut(ids, shard -> {
+            if (Objects.equals(shard.getUniversityId(), sourceUniversityId)) return null;
+            CompiledPolicy policy = policyCache.policyFor(sourceUniversityId, shard.getUniversityId());
+            if (policy.isEmpty()) return null;
+            int best = -1;
+            double bestOverlap = -1.0;
+            for (int j = 0; j < shard.size(); j++) {
+                TopicVector target = shard.vector(j);
+                double overlap = sourceTopics.overlap(target);
+                if (overlap > bestOverlap && CompiledPolicy.passed(policy.evaluate(overlap, source.getCreditHours(),
+                        shard.course(j).getCreditHours(), department, sourceTopics, target))) {
+                    best = j;
+                    bestOverlap = overlap;
+                }
+            }
+            if (best < 0) return null;
+            CourseRecord match = shard.course(best);
+            return new ArticulationMatch(shard.getUniversityId(), match.getId(), match.getCourseCode(),
+                    match.getCourseName(), match.getCreditHours(), bestOverlap);
+        });
+        List<ArticulationMatch> results = new ArrayList<>();
+        for (ArticulationMatch match : perShard) {
+            if (match != null) results.add(match);
+        }
+        return results;
+    }
+
+    private static boolean contains(String value, String needle) {
+        return value != null && value.toLowerCase(Locale.ROOT).contains(needle);
+    }
+}
@@ -1,11 +1,14 @@
 package com.example.demo.service.impl;
 
+import com.example.demo.changefeed.ChangeFeedService;
+import com.example.demo.entity.ChangeEvent;
 import com.example.demo.entity.CourseContentTopic;
 import com.example.demo.repository.CourseContentTopicRepository;
 import com.example.demo.repository.CourseRepository;
 import com.example.demo.service.CourseContentTopicService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.Objects;
 
@@ -15,8 +18,11 @@ public class CourseContentTopicServiceImpl implements CourseContentTopicService
     private CourseContentTopicRepository repo;
     @Autowired
     private CourseRepository courseRepo;
+    @Autowired
+    private ChangeFeedService changeFeed;
 
     @Override
+    @Transactional
     public CourseContentTopic createTopic(CourseContentTopic topic) {
         if (topic.getTopicName() == null || topic.getTopicName().trim().isEmpty()) {
             throw new IllegalArgumentException("Topic name required");
@@ -27,20 +33,29 @@ public class CourseContentTopicServiceImpl implements CourseContentTopicService
         if (topic.getCourse() != null) {
             Long cId = topic.getCourse().getId();
             if (cId != null) {
-                courseRepo.findById(cId).orElseThrow(() -> new RuntimeException("Course not found"));
+                // The managed course gives the change event its university id.
+                topic.setCourse(courseRepo.findById(cId).orElseThrow(() -> new RuntimeException("Course not found")));
             }
         }
-        return repo.save(topic);
+        CourseContentTopic saved = repo.save(topic);
+        changeFeed.topicChanged(saved, ChangeEvent.CREATED);
+        return saved;
     }
 
     @Override
+    @Transactional
     public CourseContentTopic updateTopic(Long id, CourseContentTopic topic) {
         Objects.requireNonNull(id, "ID cannot be null");
         CourseContentTopic existing = repo.findById(id)
                 .orElseThrow(() -> new RuntimeException("Topic not found"));
         existing.setTopicName(topic.getTopicName());
         existing.setWeightPercentage(topic.getWeightPercentage());
-        return repo.save(existing);
+        if (topic.getCategory() != null) {
+            existing.setCategory(topic.getCategory());
+        }
+        CourseContentTopic saved = repo.save(existing);
+        changeFeed.topicChanged(saved, ChangeEvent.UPDATED);
+        return saved;
     }
 
     @Override
@@ -58,4 +73,4 @@ public class CourseContentTopicServiceImpl implements CourseContentTopicService
         }
         return repo.findByCourseId(courseId);
     }
-}
\ No newline at end of file
+}
@@ -1,11 +1,19 @@
 package com.example.demo.service.impl;
 
+import com.example.demo.catalog.CatalogVersions;
+import com.example.demo.changefeed.ChangeFeedService;
+import com.example.demo.concurrent.SingleFlight;
+import com.example.demo.entity.ChangeEvent;
 import com.example.demo.entity.Course;
 import com.example.demo.repository.CourseRepository;
 import com.example.demo.repository.UniversityRepository;
 import com.example.demo.service.CourseService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.Objects;
 
@@ -15,8 +23,25 @@ public class CourseServiceImpl implements CourseService {
     private CourseRepository repo;
     @Autowired
     private UniversityRepository univRepo;
+    @Autowired
+    private ChangeFeedService changeFeed;
+    @Autowired
+    private CatalogVersions versions;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${singleflight.timeout-ms:5000}")
+    private long singleFlightTimeoutMs;
+
+    private SingleFlight<String, List<Course>> universityCourses;
+
+    @PostConstruct
+    public void init() {
+        universityCourses = new SingleFlight<>("coursesByUniversity", singleFlightTimeoutMs, meterRegistry);
+    }
 
     @Override
+    @Transactional
     public Course createCourse(Course course) {
         if (course.getCreditHours() <= 0) {
             throw new IllegalArgumentException("Credit hours must be > 0");
@@ -25,22 +50,32 @@ public class CourseServiceImpl implements CourseService {
             Long uId = course.getUniversity().getId();
             if (uId != null) {
                 univRepo.findById(uId).orElseThrow(() -> new RuntimeException("University not found"));
+                // Not served from the shards: they hold only active courses, and codes stay taken after deactivation.
                 if (repo.findByUniversityIdAndCourseCode(uId, course.getCourseCode()).isPresent()) {
                     throw new IllegalArgumentException("Course code already exists");
                 }
             }
         }
-        return repo.save(course);
+        Course saved = repo.save(course);
+        changeFeed.courseChanged(saved, ChangeEvent.CREATED);
+        return saved;
     }
 
     @Override
+    @Transactional
     public Course updateCourse(Long id, Course course) {
         Objects.requireNonNull(id, "ID cannot be null");
         Course existing = repo.findById(id)
                 .orElseThrow(() -> new RuntimeException("Course not found"));
         existing.setCourseName(course.getCourseName());
         existing.setCreditHours(course.getCreditHours());
-        return repo.save(existing);
+        // Null means the request left the field out; clearing it would move the course's department.
+        if (course.getDepartment() != null) {
+            existing.setDepartment(course.getDepartment());
+        }
+        Course saved = repo.save(existing);
+        changeFeed.courseChanged(saved, ChangeEvent.UPDATED);
+        return saved;
     }
 
     @Override
@@ -51,16 +86,21 @@ public class CourseServiceImpl implements CourseService {
     }
 
     @Override
+    @Transactional
     public void deactivateCourse(Long id) {
         Objects.requireNonNull(id, "ID cannot be null");
         Course course = repo.findById(id)
                 .orElseThrow(() -> new RuntimeException("Course not found"));
         course.setActive(false);
         repo.save(course);
+        changeFeed.courseChanged(course, ChangeEvent.DEACTIVATED);
     }
 
     @Override
     public List<Course> getCoursesByUniversity(Long universityId) {
-        return repo.findByUniversityIdAndActiveTrue(universityId);
+        // The key carries the list's version, so callers arriving after a committed write
+        // start a new query instead of joining one that may predate it.
+        String key = universityId + ":" + versions.universityCoursesEtag(universityId);
+        return universityCourses.execute(key, () -> repo.findByUniversityIdAndActiveTrue(universityId));
     }
 }
\ No newline at end of file
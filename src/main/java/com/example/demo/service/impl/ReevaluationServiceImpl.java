@@ -0,0 +1,178 @@
+package com.example.demo.service.impl;
+
+import com.example.demo.entity.ChangeEvent;
+import com.example.demo.entity.EvaluationChange;
+import com.example.demo.entity.TransferEvaluationResult;
+import com.example.demo.evaluation.ExplanationBuilder;
+import com.example.demo.evaluation.TopicDictionary;
+import com.example.demo.repository.EvaluationChangeRepository;
+import com.example.demo.repository.EvaluationExplanationBlobRepository;
+import com.example.demo.service.ReevaluationService;
+import com.example.demo.stats.ArticulationStatsAccumulator;
+import com.example.demo.store.EvaluationResultStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Service
+public class ReevaluationServiceImpl implements ReevaluationService {
+    private static final Logger log = LoggerFactory.getLogger(ReevaluationServiceImpl.class);
+
+    @Autowired
+    private EvaluationResultStore resultStore;
+    @Autowired
+    private EvaluationChangeRepository changeRepo;
+    @Autowired
+    private TransferEvaluationServiceImpl evaluator;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private EvaluationExplanationBlobRepository explanationRepo;
+    @Autowired
+    private TopicDictionary dictionary;
+    @Autowired
+    private ArticulationStatsAccumulator stats;
+
+    // Local writes only: other nodes see the same ChangeEvent through the poller,
+    // but re-evaluation must run once, on the node that handled the mutation.
+    @Async("evaluationExecutor")
+    @Order(100)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommitted(ChangeEvent event) {
+        try {
+            switch (event.getEntityType()) {
+                case ChangeEvent.TOPIC -> reevaluateCourse(event.getCourseId(), event.getEntityType(), event.getEntityId());
+                case ChangeEvent.COURSE -> {
+                    if (!ChangeEvent.CREATED.equals(event.getOperation())) {
+                        reevaluateCourse(event.getCourseId(), event.getEntityType(), event.getEntityId());
+                    }
+                }
+                case ChangeEvent.RULE -> reevaluateUniversityPair(event.getUniversityId(), event.getTargetUniversityId(),
+                        event.getEntityType(), event.getEntityId());
+                default -> { }
+            }
+        } catch (RuntimeException e) {
+            log.error("Re-evaluation for {} {} failed", event.getEntityType(), event.getEntityId(), e);
+        }
+    }
+
+    @Override
+    public int reevaluateCourse(Long courseId, String triggerType, Long triggerId) {
+        if (courseId == null) return 0;
+        return reevaluate(resultStore.findInvolvingCourse(courseId), triggerType, triggerId);
+    }
+
+    @Override
+    public int reevaluateUniversityPair(Long sourceUniversityId, Long targetUniversityId, String triggerType, Long triggerId) {
+        if (sourceUniversityId == null || targetUniversityId == null) return 0;
+        return reevaluate(resultStore.findForUniversityPair(sourceUniversityId, targetUniversityId), triggerType, triggerId);
+    }
+
+    private int reevaluate(List<TransferEvaluationResult> results, String triggerType, Long triggerId) {
+        Map<String, List<TransferEvaluationResult>> pairs = new LinkedHashMap<>();
+        for (TransferEvaluationResult result : results) {
+            if (result.getSourceCourse() == null || result.getTargetCourse() == null) continue;
+            String key = result.getSourceCourse().getId() + ":" + result.getTargetCourse().getId();
+            pairs.computeIfAbsent(key, k -> new ArrayList<>()).add(result);
+        }
+        int changed = 0;
+        for (List<TransferEvaluationResult> rows : pairs.values()) {
+            Integer flipped = transactionTemplate.execute(status -> reevaluatePair(rows, triggerType, triggerId));
+            changed += flipped == null ? 0 : flipped;
+        }
+        log.info("Re-evaluated {} pairs ({} rows) after {} {}; {} changed eligibility",
+                pairs.size(), results.size(), triggerType, triggerId, changed);
+        return changed;
+    }
+
+    // Rows are never rewritten: each current row whose outcome changed gets a replacement
+    // row and is marked superseded, so what a student was told stays on record.
+    private int reevaluatePair(List<TransferEvaluationResult> rows, String triggerType, Long triggerId) {
+        TransferEvaluationResult latest = rows.get(rows.size() - 1);
+        Boolean previousEligible = latest.getIsEligibleForTransfer();
+        Double previousOverlap = latest.getOverlapPercentage();
+
+        TransferEvaluationResult fresh = new TransferEvaluationResult();
+        fresh.setSourceCourse(latest.getSourceCourse());
+        fresh.setTargetCourse(latest.getTargetCourse());
+        List<Long> explained = List.of();
+        if (!fresh.getSourceCourse().isActive() || !fresh.getTargetCourse().isActive()) {
+            fresh.setOverlapPercentage(previousOverlap);
+            fresh.setIsEligibleForTransfer(false);
+            fresh.setNotes("Course is no longer active");
+        } else {
+            // Replacements of explained rows get an explanation of the new outcome.
+            explained = explanationRepo.findExistingIds(rows.stream().map(TransferEvaluationResult::getId).toList());
+            evaluator.score(fresh, explained.isEmpty() ? null : new ExplanationBuilder(dictionary));
+        }
+
+        Instant now = Instant.now();
+        List<TransferEvaluationResult> superseded = new ArrayList<>();
+        for (TransferEvaluationResult row : rows) {
+            if (sameOutcome(row, fresh)) continue;
+            TransferEvaluationResult replacement = new TransferEvaluationResult();
+            replacement.setSourceCourse(row.getSourceCourse());
+            replacement.setTargetCourse(row.getTargetCourse());
+            replacement.setOverlapPercentage(fresh.getOverlapPercentage());
+            replacement.setIsEligibleForTransfer(fresh.getIsEligibleForTransfer());
+            replacement.setNotes(fresh.getNotes());
+            replacement.setFailedCriterion(fresh.getFailedCriterion());
+            replacement = resultStore.save(replacement);
+            if (explained.contains(row.getId())) {
+                evaluator.saveExplanation(replacement.getId(), fresh.getExplanation());
+            }
+            row.setSupersededById(replacement.getId());
+            row.setSupersededAt(now);
+            superseded.add(row);
+            stats.evaluationChanged(replacement, row.getIsEligibleForTransfer(), row.getOverlapPercentage());
+        }
+        if (!superseded.isEmpty()) {
+            resultStore.saveAll(superseded);
+        }
+
+        if (Objects.equals(previousEligible, fresh.getIsEligibleForTransfer())) {
+            return 0;
+        }
+        EvaluationChange change = new EvaluationChange();
+        change.setSourceCourseId(fresh.getSourceCourse().getId());
+        change.setTargetCourseId(fresh.getTargetCourse().getId());
+        change.setPreviousEligible(previousEligible);
+        change.setCurrentEligible(fresh.getIsEligibleForTransfer());
+        change.setPreviousOverlapPercentage(previousOverlap);
+        change.setCurrentOverlapPercentage(fresh.getOverlapPercentage());
+        change.setTriggerType(triggerType);
+        change.setTriggerId(triggerId);
+        change.setChangedAt(Instant.now());
+        changeRepo.save(change);
+        return 1;
+    }
+
+    private static boolean sameOutcome(TransferEvaluationResult row, TransferEvaluationResult fresh) {
+        return Objects.equals(row.getIsEligibleForTransfer(), fresh.getIsEligibleForTransfer())
+                && Objects.equals(row.getOverlapPercentage(), fresh.getOverlapPercentage())
+                && Objects.equals(row.getNotes(), fresh.getNotes())
+                && Objects.equals(row.getFailedCriterion(), fresh.getFailedCriterion());
+    }
+
+    @Override
+    public List<EvaluationChange> getRecentChanges() {
+        return changeRepo.findTop100ByOrderByIdDesc();
+    }
+
+    @Override
+    public List<EvaluationChange> getChangesForCourse(Long courseId) {
+        return changeRepo.findBySourceCourseIdOrderByIdDesc(courseId);
+    }
+}
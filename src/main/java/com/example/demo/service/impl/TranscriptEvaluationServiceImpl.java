@@ -0,0 +1,160 @@
+package com.example.demo.service.impl;
+
+import com.example.demo.catalog.CourseRecord;
+import com.example.demo.catalog.ShardedCatalog;
+import com.example.demo.catalog.UniversityShard;
+import com.example.demo.dto.TranscriptMapping;
+import com.example.demo.dto.TranscriptResponse;
+import com.example.demo.entity.Course;
+import com.example.demo.evaluation.CompiledPolicy;
+import com.example.demo.evaluation.HungarianAssignment;
+import com.example.demo.evaluation.PolicyCache;
+import com.example.demo.evaluation.TopicDictionary;
+import com.example.demo.evaluation.TopicVector;
+import com.example.demo.repository.CourseRepository;
+import com.example.demo.service.TranscriptEvaluationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+@Service
+public class TranscriptEvaluationServiceImpl implements TranscriptEvaluationService {
+    private static final Logger log = LoggerFactory.getLogger(TranscriptEvaluationServiceImpl.class);
+
+    @Autowired
+    private CourseRepository courseRepo;
+    @Autowired
+    private ShardedCatalog catalog;
+    @Autowired
+    private PolicyCache policyCache;
+    @Autowired
+    private TopicDictionary dictionary;
+
+    @Value("${transcript.latency-budget-ms:100}")
+    private long latencyBudgetMs;
+
+    @Override
+    public TranscriptResponse evaluateTranscript(List<Long> sourceCourseIds, Long targetUniversityId) {
+        Objects.requireNonNull(targetUniversityId, "Target university ID cannot be null");
+        if (sourceCourseIds == null || sourceCourseIds.isEmpty()) {
+            throw new IllegalArgumentException("Source courses are required");
+        }
+        long start = System.nanoTime();
+
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(sourceCourseIds));
+        Map<Long, Course> loaded = new HashMap<>();
+        for (Course course : courseRepo.findAllById(ids)) {
+            loaded.put(course.getId(), course);
+        }
+        Course[] sources = new Course[ids.size()];
+        for (int i = 0; i < sources.length; i++) {
+            Course course = loaded.get(ids.get(i));
+            if (course == null) {
+                throw new RuntimeException("Source course not found: " + ids.get(i));
+            }
+            if (!course.isActive()) {
+                throw new IllegalArgumentException("Source course is not active: " + ids.get(i));
+            }
+            sources[i] = course;
+        }
+
+        // Target and source shards load in parallel; topic profiles come from the shards.
+        Set<Long> universityIds = new LinkedHashSet<>();
+        universityIds.add(targetUniversityId);
+        for (Course source : sources) {
+            if (source.getUniversity() != null) universityIds.add(source.getUniversity().getId());
+        }
+        Map<Long, UniversityShard> shards = new HashMap<>();
+        for (UniversityShard shard : catalog.fanOut(universityIds, shard -> shard)) {
+            shards.put(shard.getUniversityId(), shard);
+        }
+        UniversityShard targetShard = shards.get(targetUniversityId);
+
+        int n = sources.length;
+        int m = targetShard.size();
+        TopicVector[] sourceVectors = new TopicVector[n];
+        CompiledPolicy[] policies = new CompiledPolicy[n];
+        int[] departments = new int[n];
+        for (int i = 0; i < n; i++) {
+            Long sourceUniversityId = sources[i].getUniversity() == null ? null : sources[i].getUniversity().getId();
+            UniversityShard home = sourceUniversityId == null ? null : shards.get(sourceUniversityId);
+            int index = home == null ? -1 : home.indexOf(sources[i].getId());
+            sourceVectors[i] = index < 0 ? TopicVector.EMPTY : home.vector(index);
+            policies[i] = policyCache.policyFor(sourceUniversityId, targetUniversityId);
+            departments[i] = index < 0 ? dictionary.departmentId(sources[i].getDepartment())
+                    : home.course(index).getDepartmentId();
+        }
+        CourseRecord[] targets = new CourseRecord[m];
+        TopicVector[] targetVectors = new TopicVector[m];
+        for (int j = 0; j < m; j++) {
+            targets[j] = targetShard.course(j);
+            targetVectors[j] = targetShard.vector(j);
+        }
+
+        // Overlap of every eligible pair; NaN marks ineligible. Rows are independent.
+        double[][] overlap = new double[n][m];
+        IntStream.range(0, n).parallel().forEach(i -> {
+            double[] row = overlap[i];
+            CompiledPolicy policy = policies[i];
+            for (int j = 0; j < m; j++) {
+                double value = sourceVectors[i].overlap(targetVectors[j]);
+                boolean eligible = !policy.isEmpty() && CompiledPolicy.passed(policy.evaluate(value, sources[i].getCreditHours(),
+                        targets[j].getCreditHours(), departments[i], sourceVectors[i], targetVectors[j]));
+                row[j] = eligible ? value : Double.NaN;
+            }
+        });
+
+        // Only targets eligible for some source take part in the assignment.
+        int[] columns = IntStream.range(0, m)
+                .filter(j -> IntStream.range(0, n).anyMatch(i -> !Double.isNaN(overlap[i][j])))
+                .toArray();
+        double[][] profit = new double[n][columns.length];
+        for (int i = 0; i < n; i++) {
+            for (int c = 0; c < columns.length; c++) {
+                double value = overlap[i][columns[c]];
+                // Credit dominates; overlap (< 1 after scaling) only breaks ties.
+                profit[i][c] = Double.isNaN(value) ? 0.0 : targets[columns[c]].getCreditHours() + value / 1000.0;
+            }
+        }
+        int[] assignment;
+        if (columns.length == 0) {
+            assignment = new int[n];
+            Arrays.fill(assignment, -1);
+        } else {
+            assignment = HungarianAssignment.maximize(profit, n, columns.length);
+        }
+
+        List<TranscriptMapping> mappings = new ArrayList<>();
+        List<Long> unmapped = new ArrayList<>();
+        int totalCredits = 0;
+        for (int i = 0; i < n; i++) {
+            int c = assignment[i];
+            if (c < 0 || profit[i][c] == 0.0) {
+                unmapped.add(sources[i].getId());
+                continue;
+            }
+            CourseRecord target = targets[columns[c]];
+            mappings.add(new TranscriptMapping(sources[i].getId(), sources[i].getCourseCode(), target.getId(),
+                    target.getCourseCode(), target.getCreditHours(), overlap[i][columns[c]]));
+            totalCredits += target.getCreditHours();
+        }
+
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        if (elapsedMs > latencyBudgetMs) {
+            log.warn("Transcript evaluation of {} courses against {} targets took {} ms (budget {} ms)",
+                    n, m, elapsedMs, latencyBudgetMs);
+        }
+        return new TranscriptResponse(mappings, unmapped, totalCredits, elapsedMs);
+    }
+}
@@ -1,11 +1,30 @@
 package com.example.demo.service.impl;
 
+import com.example.demo.catalog.CatalogSnapshotService;
+import com.example.demo.catalog.ShardedCatalog;
+import com.example.demo.concurrent.SingleFlight;
+import com.example.demo.diagnostics.EvaluationPhaseEvent;
+import com.example.demo.diagnostics.Tracing;
+import com.example.demo.dto.EvaluationExplanation;
 import com.example.demo.entity.*;
+import com.example.demo.evaluation.CompiledPolicy;
+import com.example.demo.evaluation.Criterion;
+import com.example.demo.evaluation.ExplanationBuilder;
+import com.example.demo.evaluation.ExplanationCodec;
+import com.example.demo.evaluation.PolicyCache;
+import com.example.demo.evaluation.TopicDictionary;
+import com.example.demo.evaluation.TopicVector;
 import com.example.demo.repository.*;
 import com.example.demo.service.TransferEvaluationService;
+import com.example.demo.stats.ArticulationStatsAccumulator;
+import com.example.demo.store.EvaluationResultStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 @Service
@@ -15,28 +34,93 @@ public class TransferEvaluationServiceImpl implements TransferEvaluationService
     @Autowired
     private CourseContentTopicRepository topicRepo;
     @Autowired
-    private TransferRuleRepository ruleRepo;
+    private EvaluationResultStore resultStore;
     @Autowired
-    private TransferEvaluationResultRepository resultRepo;
+    private CatalogSnapshotService snapshotService;
+    @Autowired
+    private ShardedCatalog catalog;
+    @Autowired
+    private PolicyCache policyCache;
+    @Autowired
+    private TopicDictionary dictionary;
+    @Autowired
+    private EvaluationExplanationBlobRepository explanationRepo;
+    @Autowired
+    private ArticulationStatsAccumulator stats;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${singleflight.timeout-ms:5000}")
+    private long singleFlightTimeoutMs;
+
+    private SingleFlight<String, TransferEvaluationResult> evaluations;
+
+    @PostConstruct
+    public void init() {
+        evaluations = new SingleFlight<>("evaluateTransfer", singleFlightTimeoutMs, meterRegistry);
+    }
 
     @Override
     public TransferEvaluationResult evaluateTransfer(Long sourceCourseId, Long targetCourseId) {
+        return evaluateTransfer(sourceCourseId, targetCourseId, false);
+    }
+
+    @Override
+    public TransferEvaluationResult evaluateTransfer(Long sourceCourseId, Long targetCourseId, boolean explain) {
         Objects.requireNonNull(sourceCourseId, "Source course ID cannot be null");
         Objects.requireNonNull(targetCourseId, "Target course ID cannot be null");
         
+        // Identical concurrent requests (a popular pair during registration) share one
+        // evaluation and therefore one stored result.
+        String key = sourceCourseId + ":" + targetCourseId + (explain ? ":explain" : "");
+        return evaluations.execute(key, () -> {
+            try (Tracing.Span span = Tracing.span("evaluateTransfer")) {
+                return evaluate(sourceCourseId, targetCourseId, explain);
+            }
+        });
+    }
+
+    private TransferEvaluationResult evaluate(Long sourceCourseId, Long targetCourseId, boolean explain) {
+        EvaluationPhaseEvent phase = EvaluationPhaseEvent.start("load-courses", sourceCourseId, targetCourseId);
         Course sourceCourse = courseRepo.findById(sourceCourseId)
                 .orElseThrow(() -> new RuntimeException("Source course not found"));
         Course targetCourse = courseRepo.findById(targetCourseId)
                 .orElseThrow(() -> new RuntimeException("Target course not found"));
+        phase.finish();
 
         if (!sourceCourse.isActive() || !targetCourse.isActive()) {
             throw new IllegalArgumentException("Both courses must be active");
         }
 
-        List<CourseContentTopic> sourceTopics = topicRepo.findByCourseId(sourceCourseId);
-        List<CourseContentTopic> targetTopics = topicRepo.findByCourseId(targetCourseId);
+        TransferEvaluationResult result = new TransferEvaluationResult();
+        result.setSourceCourse(sourceCourse);
+        result.setTargetCourse(targetCourse);
+        score(result, explain ? new ExplanationBuilder(dictionary) : null);
+
+        phase = EvaluationPhaseEvent.start("save", sourceCourseId, targetCourseId);
+        TransferEvaluationResult saved = resultStore.save(result);
+        stats.evaluationAdded(saved);
+        phase.finish();
+        if (explain) {
+            phase = EvaluationPhaseEvent.start("explanation", sourceCourseId, targetCourseId);
+            saveExplanation(saved.getId(), saved.getExplanation());
+            phase.finish();
+        }
+        return saved;
+    }
+
+    public void saveExplanation(Long evaluationId, EvaluationExplanation explanation) {
+        explanationRepo.save(new EvaluationExplanationBlob(evaluationId, ExplanationCodec.encode(explanation)));
+    }
+
+    public void score(TransferEvaluationResult result) {
+        score(result, null);
+    }
 
-        double overlapPercentage = calculateOverlap(sourceTopics, targetTopics);
+    // With a builder, the breakdown is recorded during the same overlap and rule pass.
+    public void score(TransferEvaluationResult result, ExplanationBuilder explanation) {
+        Course sourceCourse = result.getSourceCourse();
+        Course targetCourse = result.getTargetCourse();
 
         Long sourceUnivId = null;
         Long targetUnivId = null;
@@ -46,67 +130,88 @@ public class TransferEvaluationServiceImpl implements TransferEvaluationService
         if (targetCourse.getUniversity() != null) {
             targetUnivId = targetCourse.getUniversity().getId();
         }
-
-        List<TransferRule> rules = List.of();
-        if (sourceUnivId != null && targetUnivId != null) {
-            rules = ruleRepo.findBySourceUniversityIdAndTargetUniversityIdAndActiveTrue(sourceUnivId, targetUnivId);
+        EvaluationPhaseEvent phase = EvaluationPhaseEvent.start("rules", sourceCourse.getId(), targetCourse.getId());
+        CompiledPolicy policy = policyCache.policyFor(sourceUnivId, targetUnivId);
+        phase.rules(policy.size()).finish();
+
+        // Topic-free policies can use the mapped snapshot; otherwise both profiles are
+        // primitive vectors, from resident shards or from the two courses' topic rows.
+        Double snapshotOverlap = policy.needsTopics() || explanation != null
+                ? null : snapshotService.overlap(sourceCourse.getId(), targetCourse.getId());
+        TopicVector sourceVector = null;
+        TopicVector targetVector = null;
+        double overlapPercentage;
+        if (snapshotOverlap != null) {
+            overlapPercentage = snapshotOverlap;
+        } else {
+            phase = EvaluationPhaseEvent.start("topics", sourceCourse.getId(), targetCourse.getId());
+            sourceVector = catalog.residentVector(sourceUnivId, sourceCourse.getId());
+            targetVector = catalog.residentVector(targetUnivId, targetCourse.getId());
+            if (sourceVector == null || targetVector == null) {
+                Map<Long, TopicVector> read = TopicVector.fromRows(
+                        topicRepo.findTopicRowsByCourseIds(List.of(sourceCourse.getId(), targetCourse.getId())), dictionary);
+                if (sourceVector == null) sourceVector = read.getOrDefault(sourceCourse.getId(), TopicVector.EMPTY);
+                if (targetVector == null) targetVector = read.getOrDefault(targetCourse.getId(), TopicVector.EMPTY);
+            }
+            phase.topics(sourceVector.size(), targetVector.size()).finish();
+            phase = EvaluationPhaseEvent.start("overlap", sourceCourse.getId(), targetCourse.getId());
+            overlapPercentage = sourceVector.overlap(targetVector, explanation);
+            phase.topics(sourceVector.size(), targetVector.size()).finish();
         }
+        phase = EvaluationPhaseEvent.start("decide", sourceCourse.getId(), targetCourse.getId());
+        int departmentId = catalog.departmentId(sourceUnivId, sourceCourse.getId(), sourceCourse.getDepartment());
+        decide(result, policy, overlapPercentage, departmentId, sourceVector, targetVector, explanation);
+        phase.rules(policy.size()).finish();
+    }
 
-        TransferEvaluationResult result = new TransferEvaluationResult();
-        result.setSourceCourse(sourceCourse);
-        result.setTargetCourse(targetCourse);
+    // Applies the compiled rules to an overlap that was already computed; the vectors
+    // may be null when the policy does not look at topics.
+    public void decide(TransferEvaluationResult result, CompiledPolicy policy, double overlapPercentage, int departmentId,
+                       TopicVector sourceVector, TopicVector targetVector, ExplanationBuilder explanation) {
+        Course sourceCourse = result.getSourceCourse();
+        Course targetCourse = result.getTargetCourse();
         result.setOverlapPercentage(overlapPercentage);
 
-        if (rules.isEmpty()) {
+        if (policy.isEmpty()) {
             result.setIsEligibleForTransfer(false);
+            result.setFailedCriterion(Criterion.NO_RULE.name());
             result.setNotes("No active transfer rule found between universities");
-        } else {
-            boolean eligible = false;
-            for (TransferRule rule : rules) {
-                if (overlapPercentage >= rule.getMinimumOverlapPercentage()) {
-                    int creditDiff = Math.abs(sourceCourse.getCreditHours() - targetCourse.getCreditHours());
-                    if (rule.getCreditHourTolerance() == null || creditDiff <= rule.getCreditHourTolerance()) {
-                        eligible = true;
-                        break;
-                    }
-                }
+            if (explanation != null) {
+                result.setExplanation(explanation.build(overlapPercentage, sourceCourse.getCreditHours(),
+                        targetCourse.getCreditHours(), null, false, Criterion.NO_RULE));
             }
+        } else {
+            int outcome = policy.evaluate(overlapPercentage, sourceCourse.getCreditHours(), targetCourse.getCreditHours(),
+                    departmentId, sourceVector, targetVector);
+            boolean eligible = CompiledPolicy.passed(outcome);
             result.setIsEligibleForTransfer(eligible);
+            result.setFailedCriterion(eligible ? null : CompiledPolicy.failure(outcome).name());
             result.setNotes(eligible ? "Transfer approved" : "No active rule satisfied all criteria");
-        }
-
-        return resultRepo.save(result);
-    }
-
-    private double calculateOverlap(List<CourseContentTopic> sourceTopics, List<CourseContentTopic> targetTopics) {
-        if (sourceTopics.isEmpty() && targetTopics.isEmpty()) return 100.0;
-        if (sourceTopics.isEmpty() || targetTopics.isEmpty()) return 0.0;
-
-        double totalSourceWeight = sourceTopics.stream().mapToDouble(CourseContentTopic::getWeightPercentage).sum();
-        if (totalSourceWeight == 0) totalSourceWeight = 100.0;
-
-        double matchedWeight = 0.0;
-        for (CourseContentTopic sourceTopic : sourceTopics) {
-            for (CourseContentTopic targetTopic : targetTopics) {
-                if (sourceTopic.getTopicName().equalsIgnoreCase(targetTopic.getTopicName())) {
-                    matchedWeight += Math.min(sourceTopic.getWeightPercentage(), targetTopic.getWeightPercentage());
-                    break;
-                }
+            if (explanation != null) {
+                long ruleId = policy.rule(CompiledPolicy.ruleIndex(outcome)).getRuleId();
+                result.setExplanation(explanation.build(overlapPercentage, sourceCourse.getCreditHours(),
+                        targetCourse.getCreditHours(), ruleId, eligible, CompiledPolicy.failure(outcome)));
             }
         }
-
-        return (matchedWeight / totalSourceWeight) * 100.0;
     }
 
     @Override
     public TransferEvaluationResult getEvaluationById(Long id) {
         Objects.requireNonNull(id, "ID cannot be null");
-        return resultRepo.findById(id)
+        return resultStore.findById(id)
                 .orElseThrow(() -> new RuntimeException("Evaluation not found"));
     }
 
     @Override
     public List<TransferEvaluationResult> getEvaluationsForCourse(Long courseId) {
-        return resultRepo.findBySourceCourseId(courseId);
+        return resultStore.findBySourceCourseId(courseId);
+    }
+
+    @Override
+    public EvaluationExplanation getExplanation(Long evaluationId) {
+        Objects.requireNonNull(evaluationId, "ID cannot be null");
+        return explanationRepo.findById(evaluationId)
+                .map(blob -> ExplanationCodec.decode(blob.getData()))
+                .orElseThrow(() -> new RuntimeException("Explanation not found"));
     }
-}
\ No newline at end of file
+}
@@ -1,11 +1,16 @@
 package com.example.demo.service.impl;
 
+import com.example.demo.changefeed.ChangeFeedService;
+import com.example.demo.entity.ChangeEvent;
 import com.example.demo.entity.TransferRule;
+import com.example.demo.entity.TransferRuleCriterion;
 import com.example.demo.repository.TransferRuleRepository;
 import com.example.demo.repository.UniversityRepository;
 import com.example.demo.service.TransferRuleService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -15,8 +20,11 @@ public class TransferRuleServiceImpl implements TransferRuleService {
     private TransferRuleRepository repo;
     @Autowired
     private UniversityRepository univRepo;
+    @Autowired
+    private ChangeFeedService changeFeed;
 
     @Override
+    @Transactional
     public TransferRule createRule(TransferRule rule) {
         if (rule.getMinimumOverlapPercentage() < 0 || rule.getMinimumOverlapPercentage() > 100) {
             throw new IllegalArgumentException("Overlap percentage must be 0-100");
@@ -24,6 +32,7 @@ public class TransferRuleServiceImpl implements TransferRuleService {
         if (rule.getCreditHourTolerance() != null && rule.getCreditHourTolerance() < 0) {
             throw new IllegalArgumentException("Credit hour tolerance must be >= 0");
         }
+        validateCriteria(rule.getCriteria());
         if (rule.getSourceUniversity() != null) {
             Long sourceId = rule.getSourceUniversity().getId();
             if (sourceId != null) {
@@ -38,17 +47,39 @@ public class TransferRuleServiceImpl implements TransferRuleService {
                         .orElseThrow(() -> new RuntimeException("Target university not found"));
             }
         }
-        return repo.save(rule);
+        List<TransferRuleCriterion> criteria = rule.getCriteria() == null ? List.of() : rule.getCriteria();
+        rule.setCriteria(new ArrayList<>());
+        for (TransferRuleCriterion criterion : criteria) {
+            criterion.setRule(rule);
+            rule.getCriteria().add(criterion);
+        }
+        TransferRule saved = repo.save(rule);
+        changeFeed.ruleChanged(saved, ChangeEvent.CREATED);
+        return saved;
     }
 
     @Override
+    @Transactional
     public TransferRule updateRule(Long id, TransferRule rule) {
         Objects.requireNonNull(id, "ID cannot be null");
         TransferRule existing = repo.findById(id)
                 .orElseThrow(() -> new RuntimeException("Rule not found"));
         existing.setMinimumOverlapPercentage(rule.getMinimumOverlapPercentage());
         existing.setCreditHourTolerance(rule.getCreditHourTolerance());
-        return repo.save(existing);
+        if (rule.getCriteria() != null) {
+            validateCriteria(rule.getCriteria());
+            existing.getCriteria().clear();
+            for (TransferRuleCriterion criterion : rule.getCriteria()) {
+                criterion.setId(null);
+                criterion.setRule(existing);
+                existing.getCriteria().add(criterion);
+            }
+        }
+        // A criteria-only change leaves the rule row clean, so bump its version explicitly.
+        existing.touch();
+        TransferRule saved = repo.save(existing);
+        changeFeed.ruleChanged(saved, ChangeEvent.UPDATED);
+        return saved;
     }
 
     @Override
@@ -64,11 +95,62 @@ public class TransferRuleServiceImpl implements TransferRuleService {
     }
 
     @Override
+    @Transactional
     public void deactivateRule(Long id) {
         Objects.requireNonNull(id, "ID cannot be null");
         TransferRule rule = repo.findById(id)
                 .orElseThrow(() -> new RuntimeException("Rule not found"));
         rule.setActive(false);
         repo.save(rule);
+        changeFeed.ruleChanged(rule, ChangeEvent.DEACTIVATED);
+    }
+
+    private void validateCriteria(List<TransferRuleCriterion> criteria) {
+        if (criteria == null) return;
+        for (TransferRuleCriterion criterion : criteria) {
+            String type = criterion.getType();
+            if (type == null) {
+                throw new IllegalArgumentException("Criterion type required");
+            }
+            switch (type) {
+                case TransferRuleCriterion.REQUIRED_TOPIC -> {
+                    if (criterion.getTopicName() == null || criterion.getTopicName().trim().isEmpty()) {
+                        throw new IllegalArgumentException("Required topic criterion needs a topic name");
+                    }
+                }
+                case TransferRuleCriterion.CATEGORY_MIN_OVERLAP -> {
+                    if (criterion.getCategory() == null || criterion.getCategory().trim().isEmpty()) {
+                        throw new IllegalArgumentException("Category overlap criterion needs a category");
+                    }
+                    validatePercentage(criterion.getValue());
+                }
+                case TransferRuleCriterion.DEPARTMENT_MIN_OVERLAP -> {
+                    if (criterion.getDepartment() == null || criterion.getDepartment().trim().isEmpty()) {
+                        throw new IllegalArgumentException("Department overlap criterion needs a department");
+                    }
+                    validatePercentage(criterion.getValue());
+                }
+                case TransferRuleCriterion.CATEGORY_WEIGHT -> {
+                    if (criterion.getCategory() == null || criterion.getCategory().trim().isEmpty()) {
+                        throw new IllegalArgumentException("Category weight criterion needs a category");
+                    }
+                    if (criterion.getValue() == null || criterion.getValue() < 0) {
+                        throw new IllegalArgumentException("Category weight must be >= 0");
+                    }
+                }
+                case TransferRuleCriterion.MIN_CREDIT_HOURS -> {
+                    if (criterion.getValue() == null || criterion.getValue() < 0) {
+                        throw new IllegalArgumentException("Minimum credit hours must be >= 0");
+                    }
+                }
+                default -> throw new IllegalArgumentException("Unknown criterion type: " + type);
+            }
+        }
+    }
+
+    private void validatePercentage(Double value) {
+        if (value == null || value < 0 || value > 100) {
+            throw new IllegalArgumentException("Overlap percentage must be 0-100");
+        }
     }
 }
\ No newline at end of file
@@ -1,16 +1,21 @@
 package com.example.demo.service.impl;
 
+import com.example.demo.changefeed.ChangeFeedService;
+import com.example.demo.entity.ChangeEvent;
 import com.example.demo.entity.University;
 import com.example.demo.repository.UniversityRepository;
 import com.example.demo.service.UniversityService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.Objects;
 
 @Service
 public class UniversityServiceImpl implements UniversityService {
     @Autowired
     private UniversityRepository repository;
+    @Autowired
+    private ChangeFeedService changeFeed;
 
     @Override
     public University createUniversity(University university) {
@@ -24,12 +29,15 @@ public class UniversityServiceImpl implements UniversityService {
     }
 
     @Override
+    @Transactional
     public University updateUniversity(Long id, University university) {
         Objects.requireNonNull(id, "ID cannot be null");
         University existing = repository.findById(id)
                 .orElseThrow(() -> new RuntimeException("University not found"));
         existing.setName(university.getName());
-        return repository.save(existing);
+        University saved = repository.save(existing);
+        changeFeed.universityChanged(saved, ChangeEvent.UPDATED);
+        return saved;
     }
 
     @Override
@@ -40,11 +48,13 @@ public class UniversityServiceImpl implements UniversityService {
     }
 
     @Override
+    @Transactional
     public void deactivateUniversity(Long id) {
         Objects.requireNonNull(id, "ID cannot be null");
         University university = repository.findById(id)
                 .orElseThrow(() -> new RuntimeException("University not found"));
         university.setActive(false);
         repository.save(university);
+        changeFeed.universityChanged(university, ChangeEvent.DEACTIVATED);
     }
 }
\ No newline at end of file
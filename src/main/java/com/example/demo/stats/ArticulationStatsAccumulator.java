@@ -0,0 +1,217 @@
+package com.example.demo.stats;
+
+import com.example.demo.dto.ArticulationStatsResponse;
+import com.example.demo.entity.Course;
+import com.example.demo.entity.TransferEvaluationResult;
+import com.example.demo.entity.UniversityPairStats;
+import com.example.demo.repository.UniversityPairStatsRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+// Per university pair evaluation counts, eligible counts and overlap sums. Committed
+// evaluations add to striped in-memory adders; a scheduled flush turns each pair's
+// accumulated delta into one additive upsert. Reads are a unique-key lookup plus this
+// node's unflushed delta, so they cost the same however many results exist.
+@Component
+public class ArticulationStatsAccumulator {
+    private static final Logger log = LoggerFactory.getLogger(ArticulationStatsAccumulator.class);
+
+    @Autowired
+    private UniversityPairStatsRepository statsRepo;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private record Pair(long sourceUniversityId, long targetUniversityId) {}
+
+    private record Totals(long count, long eligible, double overlap) {}
+
+    private static final class Delta {
+        final LongAdder count = new LongAdder();
+        final LongAdder eligible = new LongAdder();
+        final DoubleAdder overlap = new DoubleAdder();
+    }
+
+    // Entries are never removed (one per pair ever seen), so an add can't race a removal.
+    private final Map<Pair, Delta> pending = new ConcurrentHashMap<>();
+    private final Object flushLock = new Object();
+    private Counter flushed;
+    private Counter flushFailures;
+
+    @PostConstruct
+    public void init() {
+        flushed = meterRegistry.counter("articulation.stats.flushed");
+        flushFailures = meterRegistry.counter("articulation.stats.flush.failures");
+        meterRegistry.gauge("articulation.stats.pairs", pending, Map::size);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    public void evaluationAdded(TransferEvaluationResult result) {
+        record(universityId(result.getSourceCourse()), universityId(result.getTargetCourse()),
+                1, eligible(result.getIsEligibleForTransfer()), overlap(result.getOverlapPercentage()));
+    }
+
+    // Re-evaluation replaces a current row with a new one: the count stays, eligibility
+    // and overlap move. Superseded rows are history and are not counted.
+    public void evaluationChanged(TransferEvaluationResult result, Boolean previousEligible, Double previousOverlap) {
+        long eligibleDelta = eligible(result.getIsEligibleForTransfer()) - eligible(previousEligible);
+        double overlapDelta = overlap(result.getOverlapPercentage()) - overlap(previousOverlap);
+        if (eligibleDelta == 0 && overlapDelta == 0.0) return;
+        record(universityId(result.getSourceCourse()), universityId(result.getTargetCourse()), 0, eligibleDelta, overlapDelta);
+    }
+
+    // Inside a transaction the delta is applied only if it commits.
+    public void record(Long sourceUniversityId, Long targetUniversityId, long count, long eligible, double overlap) {
+        if (sourceUniversityId == null || targetUniversityId == null) return;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    add(sourceUniversityId, targetUniversityId, count, eligible, overlap);
+                }
+            });
+        } else {
+            add(sourceUniversityId, targetUniversityId, count, eligible, overlap);
+        }
+    }
+
+    public ArticulationStatsResponse get(Long sourceUniversityId, Long targetUniversityId) {
+        UniversityPairStats stored = statsRepo.findBySourceUniversityIdAndTargetUniversityId(sourceUniversityId, targetUniversityId)
+                .orElse(null);
+        return response(sourceUniversityId, targetUniversityId, stored);
+    }
+
+    public List<ArticulationStatsResponse> getForSource(Long sourceUniversityId) {
+        List<ArticulationStatsResponse> responses = new ArrayList<>();
+        for (UniversityPairStats stored : statsRepo.findBySourceUniversityIdOrderByTargetUniversityId(sourceUniversityId)) {
+            responses.add(response(sourceUniversityId, stored.getTargetUniversityId(), stored));
+        }
+        return responses;
+    }
+
+    @Scheduled(fixedDelayString = "${stats.flush-interval-ms:5000}")
+    public void flush() {
+        synchronized (flushLock) {
+            for (Map.Entry<Pair, Delta> entry : pending.entrySet()) {
+                Pair pair = entry.getKey();
+                Delta delta = entry.getValue();
+                // sumThenReset takes each cell with getAndSet, so concurrent adds land in
+                // this flush or the next one, never in neither.
+                long count = delta.count.sumThenReset();
+                long eligible = delta.eligible.sumThenReset();
+                double overlap = delta.overlap.sumThenReset();
+                if (count == 0 && eligible == 0 && overlap == 0.0) continue;
+                try {
+                    transactionTemplate.executeWithoutResult(status -> statsRepo.addDelta(
+                            pair.sourceUniversityId(), pair.targetUniversityId(), count, eligible, overlap));
+                    flushed.increment();
+                } catch (RuntimeException e) {
+                    delta.count.add(count);
+                    delta.eligible.add(eligible);
+                    delta.overlap.add(overlap);
+                    flushFailures.increment();
+                    log.warn("Flushing articulation stats for {} -> {} failed; keeping the delta for the next run",
+                            pair.sourceUniversityId(), pair.targetUniversityId(), e);
+                    return;
+                }
+            }
+        }
+    }
+
+    // Recomputes every pair from the result table (a full scan) and replaces the stored
+    // totals. Deltas already added when the scan starts belong to evaluations it counts,
+    // so exactly those are subtracted afterwards; anything added since stays pending.
+    // Other nodes' unflushed deltas still land on top, so run it where this is the only
+    // node writing evaluations.
+    public int rebuild() {
+        synchronized (flushLock) {
+            flush();
+            Map<Pair, Totals> counted = new HashMap<>();
+            for (Map.Entry<Pair, Delta> entry : pending.entrySet()) {
+                Delta delta = entry.getValue();
+                Totals totals = new Totals(delta.count.sum(), delta.eligible.sum(), delta.overlap.sum());
+                if (totals.count() != 0 || totals.eligible() != 0 || totals.overlap() != 0.0) {
+                    counted.put(entry.getKey(), totals);
+                }
+            }
+            Integer pairs = transactionTemplate.execute(status -> {
+                List<Object[]> rows = statsRepo.aggregateFromResults();
+                statsRepo.deleteAllInBatch();
+                Instant now = Instant.now();
+                List<UniversityPairStats> rebuilt = new ArrayList<>(rows.size());
+                for (Object[] row : rows) {
+                    UniversityPairStats stats = new UniversityPairStats();
+                    stats.setSourceUniversityId(((Number) row[0]).longValue());
+                    stats.setTargetUniversityId(((Number) row[1]).longValue());
+                    stats.setEvaluationCount(((Number) row[2]).longValue());
+                    stats.setEligibleCount(row[3] == null ? 0 : ((Number) row[3]).longValue());
+                    stats.setOverlapSum(((Number) row[4]).doubleValue());
+                    stats.setUpdatedAt(now);
+                    rebuilt.add(stats);
+                }
+                statsRepo.saveAll(rebuilt);
+                return rebuilt.size();
+            });
+            counted.forEach((pair, totals) -> add(pair.sourceUniversityId(), pair.targetUniversityId(),
+                    -totals.count(), -totals.eligible(), -totals.overlap()));
+            log.info("Rebuilt articulation stats for {} university pairs", pairs);
+            return pairs == null ? 0 : pairs;
+        }
+    }
+
+    private void add(long sourceUniversityId, long targetUniversityId, long count, long eligible, double overlap) {
+        Delta delta = pending.computeIfAbsent(new Pair(sourceUniversityId, targetUniversityId), k -> new Delta());
+        if (count != 0) delta.count.add(count);
+        if (eligible != 0) delta.eligible.add(eligible);
+        if (overlap != 0.0) delta.overlap.add(overlap);
+    }
+
+    private ArticulationStatsResponse response(Long sourceUniversityId, Long targetUniversityId, UniversityPairStats stored) {
+        long count = stored == null ? 0 : stored.getEvaluationCount();
+        long eligible = stored == null ? 0 : stored.getEligibleCount();
+        double overlap = stored == null ? 0.0 : stored.getOverlapSum();
+        Delta delta = pending.get(new Pair(sourceUniversityId, targetUniversityId));
+        if (delta != null) {
+            count += delta.count.sum();
+            eligible += delta.eligible.sum();
+            overlap += delta.overlap.sum();
+        }
+        return new ArticulationStatsResponse(sourceUniversityId, targetUniversityId, count, eligible, overlap,
+                stored == null ? null : stored.getUpdatedAt());
+    }
+
+    private static Long universityId(Course course) {
+        return course == null || course.getUniversity() == null ? null : course.getUniversity().getId();
+    }
+
+    private static long eligible(Boolean eligible) {
+        return Boolean.TRUE.equals(eligible) ? 1 : 0;
+    }
+
+    private static double overlap(Double overlap) {
+        return overlap == null ? 0.0 : overlap;
+    }
+}
@@ -0,0 +1,471 @@
+package com.example.demo.store;
+
+import com.example.demo.entity.Course;
+import com.example.demo.entity.TransferEvaluationResult;
+import com.example.demo.repository.CourseRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+// Append-only log of evaluation results. Each write appends a full record (updates
+// append a newer version of the same id); in-memory indexes map ids to their latest
+// offset and group ids by source course, target course and (source, target) pair.
+// Concurrent writers share fsyncs: whoever gets the sync lock forces everything
+// written so far, and later arrivals find their records already durable.
+@Component("evaluationResultBackend")
+@ConditionalOnProperty(name = "evaluation.store", havingValue = "embedded")
+public class EmbeddedEvaluationResultStore implements EvaluationResultStore {
+    private static final Logger log = LoggerFactory.getLogger(EmbeddedEvaluationResultStore.class);
+    private static final int HEADER = 8;
+
+    @Autowired
+    private CourseRepository courseRepo;
+
+    @Value("${evaluation.store.path:data/evaluations.log}")
+    private String storePath;
+
+    private FileChannel channel;
+    private final Object writeLock = new Object();
+    private final Object syncLock = new Object();
+    private long writePosition;
+    private volatile long syncedPosition;
+    private final AtomicLong nextId = new AtomicLong(1);
+
+    private final Map<Long, Long> offsets = new ConcurrentHashMap<>();
+    private final Map<Long, NavigableSet<Long>> bySource = new ConcurrentHashMap<>();
+    private final Map<Long, NavigableSet<Long>> byTarget = new ConcurrentHashMap<>();
+    private final Map<Long, NavigableMap<Long, NavigableSet<Long>>> byPair = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void open() throws IOException {
+        long start = System.nanoTime();
+        Path path = Paths.get(storePath);
+        if (path.getParent() != null) Files.createDirectories(path.getParent());
+        channel = openChannel(path);
+        int records = recover();
+        // Superseded versions are only dropped here, when most of the log is garbage.
+        if (records > 0 && offsets.size() * 2 < records) {
+            compact(path);
+        }
+        log.info("Opened evaluation store {}: {} results, {} bytes in {} ms", path, offsets.size(),
+                writePosition, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        synchronized (writeLock) {
+            channel.force(true);
+            channel.close();
+        }
+    }
+
+    @Override
+    public TransferEvaluationResult save(TransferEvaluationResult result) {
+        saveAll(List.of(result));
+        return result;
+    }
+
+    @Override
+    public List<TransferEvaluationResult> saveAll(List<TransferEvaluationResult> results) {
+        if (results.isEmpty()) return results;
+        Record[] records = new Record[results.size()];
+        ByteBuffer[] buffers = new ByteBuffer[results.size()];
+        for (int i = 0; i < records.length; i++) {
+            TransferEvaluationResult result = results.get(i);
+            if (result.getId() == null) {
+                result.setId(nextId.getAndIncrement());
+            }
+            records[i] = Record.of(result);
+            buffers[i] = records[i].encode();
+        }
+
+        long[] positions = new long[records.length];
+        long end;
+        synchronized (writeLock) {
+            long position = writePosition;
+            try {
+                for (int i = 0; i < buffers.length; i++) {
+                    positions[i] = position;
+                    position += buffers[i].remaining();
+                    writeFully(buffers[i], positions[i]);
+                }
+            } catch (IOException e) {
+                truncateQuietly(writePosition);
+                throw new UncheckedIOException("Failed to append evaluation results", e);
+            }
+            writePosition = position;
+            end = position;
+        }
+        sync(end);
+        for (int i = 0; i < records.length; i++) {
+            index(records[i], positions[i]);
+        }
+        return results;
+    }
+
+    @Override
+    public long reserveIds(int count) {
+        return nextId.getAndAdd(count);
+    }
+
+    @Override
+    public void insertAll(List<TransferEvaluationResult> results) {
+        saveAll(results);
+    }
+
+    @Override
+    public Optional<TransferEvaluationResult> findById(Long id) {
+        Long offset = offsets.get(id);
+        if (offset == null) return Optional.empty();
+        return toEntities(List.of(read(offset))).stream().findFirst();
+    }
+
+    @Override
+    public List<TransferEvaluationResult> findBySourceCourseId(Long sourceCourseId) {
+        return load(bySource.getOrDefault(sourceCourseId, new TreeSet<>()));
+    }
+
+    @Override
+    public List<TransferEvaluationResult> findInvolvingCourse(Long courseId) {
+        NavigableSet<Long> ids = new TreeSet<>(bySource.getOrDefault(courseId, new TreeSet<>()));
+        ids.addAll(byTarget.getOrDefault(courseId, new TreeSet<>()));
+        return current(load(ids));
+    }
+
+    @Override
+    public List<TransferEvaluationResult> findForUniversityPair(Long sourceUniversityId, Long targetUniversityId) {
+        Set<Long> targets = courseIds(targetUniversityId);
+        NavigableSet<Long> ids = new TreeSet<>();
+        for (Long sourceId : courseIds(sourceUniversityId)) {
+            NavigableMap<Long, NavigableSet<Long>> pairs = byPair.get(sourceId);
+            if (pairs == null) continue;
+            for (Map.Entry<Long, NavigableSet<Long>> entry : pairs.entrySet()) {
+                if (targets.contains(entry.getKey())) ids.addAll(entry.getValue());
+            }
+        }
+        return current(load(ids));
+    }
+
+    @Override
+    public Stream<Object[]> streamRowsBySourceCourse(Long courseId) {
+        return bySource.getOrDefault(courseId, new TreeSet<>()).stream()
+                .map(this::latest)
+                .map(r -> new Object[] { r.id, r.sourceCourseId, r.targetCourseId, r.overlap, r.eligible, r.notes });
+    }
+
+    @Override
+    public Stream<Object[]> streamMatrixRows(Long sourceUniversityId, Long targetUniversityId) {
+        Set<Long> targets = courseIds(targetUniversityId);
+        return new TreeSet<>(courseIds(sourceUniversityId)).stream()
+                .map(byPair::get)
+                .filter(pairs -> pairs != null)
+                .flatMap(pairs -> pairs.entrySet().stream())
+                .filter(entry -> targets.contains(entry.getKey()))
+                .flatMap(entry -> entry.getValue().descendingSet().stream())
+                .map(this::latest)
+                .map(r -> new Object[] { r.sourceCourseId, r.targetCourseId, r.overlap, r.eligible });
+    }
+
+    private Set<Long> courseIds(Long universityId) {
+        Set<Long> ids = new HashSet<>();
+        for (Course course : courseRepo.findByUniversityId(universityId)) {
+            ids.add(course.getId());
+        }
+        return ids;
+    }
+
+    private List<TransferEvaluationResult> load(Collection<Long> ids) {
+        List<Record> records = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            records.add(latest(id));
+        }
+        return toEntities(records);
+    }
+
+    private static List<TransferEvaluationResult> current(List<TransferEvaluationResult> results) {
+        results.removeIf(result -> result.getSupersededById() != null);
+        return results;
+    }
+
+    private Record latest(Long id) {
+        return read(offsets.get(id));
+    }
+
+    private List<TransferEvaluationResult> toEntities(List<Record> records) {
+        Set<Long> courseIds = new HashSet<>();
+        for (Record record : records) {
+            courseIds.add(record.sourceCourseId);
+            courseIds.add(record.targetCourseId);
+        }
+        Map<Long, Course> courses = new HashMap<>();
+        for (Course course : courseRepo.findAllById(courseIds)) {
+            courses.put(course.getId(), course);
+        }
+        List<TransferEvaluationResult> results = new ArrayList<>(records.size());
+        for (Record record : records) {
+            TransferEvaluationResult result = new TransferEvaluationResult();
+            result.setId(record.id);
+            result.setSourceCourse(courses.get(record.sourceCourseId));
+            result.setTargetCourse(courses.get(record.targetCourseId));
+            result.setOverlapPercentage(record.overlap);
+            result.setIsEligibleForTransfer(record.eligible);
+            result.setNotes(record.notes);
+            result.setFailedCriterion(record.failedCriterion);
+            result.setSupersededById(record.supersededById);
+            result.setSupersededAt(record.supersededAt == null ? null : Instant.ofEpochMilli(record.supersededAt));
+            results.add(result);
+        }
+        return results;
+    }
+
+    // Group commit: one force() covers every record appended before it started.
+    private void sync(long end) {
+        if (syncedPosition >= end) return;
+        synchronized (syncLock) {
+            if (syncedPosition >= end) return;
+            long target;
+            synchronized (writeLock) {
+                target = writePosition;
+            }
+            try {
+                channel.force(false);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to sync evaluation store", e);
+            }
+            syncedPosition = target;
+        }
+    }
+
+    private void index(Record record, long offset) {
+        offsets.merge(record.id, offset, Math::max);
+        bySource.computeIfAbsent(record.sourceCourseId, k -> new ConcurrentSkipListSet<>()).add(record.id);
+        byTarget.computeIfAbsent(record.targetCourseId, k -> new ConcurrentSkipListSet<>()).add(record.id);
+        byPair.computeIfAbsent(record.sourceCourseId, k -> new ConcurrentSkipListMap<>())
+                .computeIfAbsent(record.targetCourseId, k -> new ConcurrentSkipListSet<>()).add(record.id);
+        nextId.accumulateAndGet(record.id + 1, Math::max);
+    }
+
+    // Replays the log into the indexes and cuts off a torn or corrupt tail.
+    private int recover() throws IOException {
+        long size = channel.size();
+        long position = 0;
+        int records = 0;
+        ByteBuffer header = ByteBuffer.allocate(HEADER);
+        while (position + HEADER <= size) {
+            header.clear();
+            readFully(header, position);
+            header.flip();
+            int length = header.getInt();
+            int crc = header.getInt();
+            if (length <= 0 || position + HEADER + length > size) break;
+            ByteBuffer payload = ByteBuffer.allocate(length);
+            readFully(payload, position + HEADER);
+            payload.flip();
+            if (checksum(payload) != crc) break;
+            index(Record.decode(payload), position);
+            records++;
+            position += HEADER + length;
+        }
+        if (position < size) {
+            log.warn("Evaluation store has {} unreadable trailing bytes after offset {}; truncating", size - position, position);
+            channel.truncate(position);
+            channel.force(true);
+        }
+        writePosition = position;
+        syncedPosition = position;
+        return records;
+    }
+
+    private void compact(Path path) throws IOException {
+        Path tmp = path.resolveSibling(path.getFileName() + ".compact");
+        try (FileChannel out = openChannel(tmp)) {
+            out.truncate(0);
+            for (Long id : new TreeSet<>(offsets.keySet())) {
+                ByteBuffer buffer = latest(id).encode();
+                while (buffer.hasRemaining()) out.write(buffer);
+            }
+            out.force(true);
+        }
+        channel.close();
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        channel = openChannel(path);
+        offsets.clear();
+        bySource.clear();
+        byTarget.clear();
+        byPair.clear();
+        recover();
+        log.info("Compacted evaluation store {} to {} bytes", path, writePosition);
+    }
+
+    private Record read(long offset) {
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER);
+            readFully(header, offset);
+            header.flip();
+            ByteBuffer payload = ByteBuffer.allocate(header.getInt());
+            readFully(payload, offset + HEADER);
+            payload.flip();
+            return Record.decode(payload);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read evaluation store at " + offset, e);
+        }
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int n = channel.read(buffer, position + buffer.position());
+            if (n < 0) throw new IOException("Unexpected end of evaluation store");
+        }
+    }
+
+    private void writeFully(ByteBuffer buffer, long position) throws IOException {
+        long at = position;
+        while (buffer.hasRemaining()) {
+            at += channel.write(buffer, at);
+        }
+    }
+
+    private void truncateQuietly(long position) {
+        try {
+            channel.truncate(position);
+        } catch (IOException e) {
+            log.error("Failed to truncate evaluation store to {}", position, e);
+        }
+    }
+
+    private static FileChannel openChannel(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    private static int checksum(ByteBuffer payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload.duplicate());
+        return (int) crc.getValue();
+    }
+
+    private static final class Record {
+        final long id;
+        final long sourceCourseId;
+        final long targetCourseId;
+        final Double overlap;
+        final Boolean eligible;
+        final String notes;
+        final String failedCriterion;
+        final Long supersededById;
+        final Long supersededAt;
+
+        Record(long id, long sourceCourseId, long targetCourseId, Double overlap, Boolean eligible,
+               String notes, String failedCriterion, Long supersededById, Long supersededAt) {
+            this.id = id;
+            this.sourceCourseId = sourceCourseId;
+            this.targetCourseId = targetCourseId;
+            this.overlap = overlap;
+            this.eligible = eligible;
+            this.notes = notes;
+            this.failedCriterion = failedCriterion;
+            this.supersededById = supersededById;
+            this.supersededAt = supersededAt;
+        }
+
+        static Record of(TransferEvaluationResult result) {
+            if (result.getSourceCourse() == null || result.getTargetCourse() == null) {
+                throw new IllegalArgumentException("Evaluation result needs source and target courses");
+            }
+            return new Record(result.getId(), result.getSourceCourse().getId(), result.getTargetCourse().getId(),
+                    result.getOverlapPercentage(), result.getIsEligibleForTransfer(), result.getNotes(),
+                    result.getFailedCriterion(), result.getSupersededById(),
+                    result.getSupersededAt() == null ? null : result.getSupersededAt().toEpochMilli());
+        }
+
+        // [length][crc32][id][source][target][overlap, NaN = null][eligible 0/1/2=null][notes][failedCriterion]
+        // [supersededById, -1 = null][supersededAt millis, -1 = null]; records written before
+        // superseding existed end after failedCriterion.
+        ByteBuffer encode() {
+            byte[] notesBytes = notes == null ? null : notes.getBytes(StandardCharsets.UTF_8);
+            byte[] failedBytes = failedCriterion == null ? null : failedCriterion.getBytes(StandardCharsets.UTF_8);
+            int length = 8 + 8 + 8 + 8 + 1 + stringSize(notesBytes) + stringSize(failedBytes) + 8 + 8;
+            ByteBuffer buffer = ByteBuffer.allocate(HEADER + length);
+            buffer.position(HEADER);
+            buffer.putLong(id);
+            buffer.putLong(sourceCourseId);
+            buffer.putLong(targetCourseId);
+            buffer.putDouble(overlap == null ? Double.NaN : overlap);
+            buffer.put((byte) (eligible == null ? 2 : eligible ? 1 : 0));
+            putString(buffer, notesBytes);
+            putString(buffer, failedBytes);
+            buffer.putLong(supersededById == null ? -1 : supersededById);
+            buffer.putLong(supersededAt == null ? -1 : supersededAt);
+            buffer.flip();
+            ByteBuffer payload = buffer.duplicate();
+            payload.position(HEADER);
+            buffer.putInt(0, length);
+            buffer.putInt(4, checksum(payload));
+            return buffer;
+        }
+
+        static Record decode(ByteBuffer payload) {
+            long id = payload.getLong();
+            long source = payload.getLong();
+            long target = payload.getLong();
+            double overlap = payload.getDouble();
+            byte eligible = payload.get();
+            String notes = getString(payload);
+            String failed = getString(payload);
+            long supersededById = payload.remaining() >= 16 ? payload.getLong() : -1;
+            long supersededAt = payload.remaining() >= 8 ? payload.getLong() : -1;
+            return new Record(id, source, target, Double.isNaN(overlap) ? null : overlap,
+                    eligible == 2 ? null : eligible == 1, notes, failed,
+                    supersededById < 0 ? null : supersededById, supersededAt < 0 ? null : supersededAt);
+        }
+
+        private static int stringSize(byte[] bytes) {
+            return 4 + (bytes == null ? 0 : bytes.length);
+        }
+
+        private static void putString(ByteBuffer buffer, byte[] bytes) {
+            buffer.putInt(bytes == null ? -1 : bytes.length);
+            if (bytes != null) buffer.put(bytes);
+        }
+
+        private static String getString(ByteBuffer buffer) {
+            int length = buffer.getInt();
+            if (length < 0) return null;
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
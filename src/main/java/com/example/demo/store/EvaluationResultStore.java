@@ -0,0 +1,31 @@
+package com.example.demo.store;
+
+import com.example.demo.entity.TransferEvaluationResult;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+// Storage port for evaluation results; the implementation is chosen with evaluation.store=jpa|embedded.
+public interface EvaluationResultStore {
+    TransferEvaluationResult save(TransferEvaluationResult result);
+    List<TransferEvaluationResult> saveAll(List<TransferEvaluationResult> results);
+
+    // Reserves count consecutive ids and returns the first; used with insertAll.
+    long reserveIds(int count);
+
+    // Writes results whose ids came from reserveIds; each id is inserted once.
+    void insertAll(List<TransferEvaluationResult> results);
+
+    Optional<TransferEvaluationResult> findById(Long id);
+    List<TransferEvaluationResult> findBySourceCourseId(Long sourceCourseId);
+
+    // Current rows only: superseded rows are history and are never re-evaluated.
+    List<TransferEvaluationResult> findInvolvingCourse(Long courseId);
+    List<TransferEvaluationResult> findForUniversityPair(Long sourceUniversityId, Long targetUniversityId);
+
+    // (id, sourceCourseId, targetCourseId, overlapPercentage, isEligibleForTransfer, notes), by id.
+    Stream<Object[]> streamRowsBySourceCourse(Long courseId);
+
+    // (sourceCourseId, targetCourseId, overlapPercentage, isEligibleForTransfer), by source, target, newest first.
+    Stream<Object[]> streamMatrixRows(Long sourceUniversityId, Long targetUniversityId);
+}
@@ -0,0 +1,160 @@
+package com.example.demo.store;
+
+import com.example.demo.entity.TransferEvaluationResult;
+import com.example.demo.repository.IdBlockRepository;
+import com.example.demo.repository.TransferEvaluationResultRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+// New rows always get their id from an id_block reservation, never from AUTO_INCREMENT,
+// so no insert path can land inside a block another node or the write-behind buffer holds.
+@Component("evaluationResultBackend")
+@ConditionalOnProperty(name = "evaluation.store", havingValue = "jpa", matchIfMissing = true)
+public class JpaEvaluationResultStore implements EvaluationResultStore {
+    private static final String ID_BLOCK = "transfer_evaluation_result";
+    private static final String INSERT = "insert into transfer_evaluation_result "
+            + "(id, source_course_id, target_course_id, overlap_percentage, is_eligible_for_transfer, notes, failed_criterion) "
+            + "values (?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private TransferEvaluationResultRepository repo;
+    @Autowired
+    private IdBlockRepository idBlockRepo;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${evaluation.id-block-size:100}")
+    private int idBlockSize;
+
+    private TransactionTemplate reserveTransaction;
+    private final Object idLock = new Object();
+    private long nextId;
+    private long idLimit;
+
+    @PostConstruct
+    public void init() {
+        reserveTransaction = new TransactionTemplate(transactionManager);
+        reserveTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // New results are inserted in the caller's transaction, if any.
+    @Override
+    public TransferEvaluationResult save(TransferEvaluationResult result) {
+        if (result.getId() != null) {
+            return repo.save(result);
+        }
+        result.setId(nextId());
+        insert(List.of(result));
+        return result;
+    }
+
+    @Override
+    public List<TransferEvaluationResult> saveAll(List<TransferEvaluationResult> results) {
+        List<TransferEvaluationResult> saved = new ArrayList<>(results.size());
+        List<TransferEvaluationResult> inserts = new ArrayList<>();
+        for (TransferEvaluationResult result : results) {
+            if (result.getId() == null) {
+                result.setId(nextId());
+                inserts.add(result);
+                saved.add(result);
+            } else {
+                saved.add(repo.save(result));
+            }
+        }
+        if (!inserts.isEmpty()) {
+            insert(inserts);
+        }
+        return saved;
+    }
+
+    // Own transaction: last_insert_id() is per connection, and a block must stay
+    // reserved even if the caller's transaction rolls back.
+    @Override
+    public long reserveIds(int count) {
+        Long end = reserveTransaction.execute(status -> {
+            if (idBlockRepo.advanceEvaluationBlock(ID_BLOCK, count) == 0) {
+                idBlockRepo.createIfMissing(ID_BLOCK);
+                idBlockRepo.advanceEvaluationBlock(ID_BLOCK, count);
+            }
+            return idBlockRepo.lastInsertId();
+        });
+        return end - count;
+    }
+
+    private long nextId() {
+        synchronized (idLock) {
+            if (nextId >= idLimit) {
+                nextId = reserveIds(idBlockSize);
+                idLimit = nextId + idBlockSize;
+            }
+            return nextId++;
+        }
+    }
+
+    // Each batch commits on its own, even when flushed from inside a caller's (possibly
+    // read-only) transaction.
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void insertAll(List<TransferEvaluationResult> results) {
+        insert(results);
+    }
+
+    // Plain JDBC: Hibernate ignores assigned ids on IDENTITY entities. A plain insert, so
+    // a reused id fails loudly instead of overwriting another evaluation.
+    private void insert(List<TransferEvaluationResult> results) {
+        List<Object[]> rows = new ArrayList<>(results.size());
+        for (TransferEvaluationResult r : results) {
+            rows.add(new Object[] { r.getId(), r.getSourceCourse().getId(), r.getTargetCourse().getId(),
+                    r.getOverlapPercentage(), r.getIsEligibleForTransfer(), r.getNotes(), r.getFailedCriterion() });
+        }
+        jdbcTemplate.batchUpdate(INSERT, rows, new int[] { Types.BIGINT, Types.BIGINT, Types.BIGINT,
+                Types.DOUBLE, Types.BOOLEAN, Types.VARCHAR, Types.VARCHAR });
+    }
+
+    @Override
+    public Optional<TransferEvaluationResult> findById(Long id) {
+        return repo.findById(id);
+    }
+
+    @Override
+    public List<TransferEvaluationResult> findBySourceCourseId(Long sourceCourseId) {
+        return repo.findBySourceCourseId(sourceCourseId);
+    }
+
+    @Override
+    public List<TransferEvaluationResult> findInvolvingCourse(Long courseId) {
+        return repo.findInvolvingCourse(courseId);
+    }
+
+    @Override
+    public List<TransferEvaluationResult> findForUniversityPair(Long sourceUniversityId, Long targetUniversityId) {
+        return repo.findForUniversityPair(sourceUniversityId, targetUniversityId);
+    }
+
+    // Streams hold a cursor: callers must be inside a (read-only) transaction and close the stream.
+    @Override
+    public Stream<Object[]> streamRowsBySourceCourse(Long courseId) {
+        return repo.streamRowsBySourceCourse(courseId);
+    }
+
+    @Override
+    public Stream<Object[]> streamMatrixRows(Long sourceUniversityId, Long targetUniversityId) {
+        return repo.streamMatrixRows(sourceUniversityId, targetUniversityId);
+    }
+}
@@ -0,0 +1,268 @@
+package com.example.demo.store;
+
+import com.example.demo.entity.TransferEvaluationResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// Buffers new evaluation results and inserts them in batches (group commit) from a
+// single flusher thread. New results get an id from a reserved block and are
+// readable through this store before they reach the backend. Updates and bulk
+// reads flush first so they never race a pending insert.
+@Component
+@Primary
+@ConditionalOnProperty(name = "evaluation.write-behind.enabled", havingValue = "true")
+public class WriteBehindEvaluationResultStore implements EvaluationResultStore {
+    private static final Logger log = LoggerFactory.getLogger(WriteBehindEvaluationResultStore.class);
+    private static final long MAX_RETRY_DELAY_MS = 5000;
+
+    @Autowired
+    @Qualifier("evaluationResultBackend")
+    private EvaluationResultStore backend;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${evaluation.write-behind.capacity:10000}")
+    private int capacity;
+    @Value("${evaluation.write-behind.batch-size:200}")
+    private int batchSize;
+    @Value("${evaluation.write-behind.max-delay-ms:20}")
+    private long maxDelayMs;
+    @Value("${evaluation.write-behind.offer-timeout-ms:50}")
+    private long offerTimeoutMs;
+    @Value("${evaluation.write-behind.id-block-size:1000}")
+    private int idBlockSize;
+    @Value("${evaluation.write-behind.shutdown-timeout-ms:30000}")
+    private long shutdownTimeoutMs;
+
+    private final Queue<TransferEvaluationResult> queue = new ConcurrentLinkedQueue<>();
+    // Results accepted but not yet confirmed by the backend, for read-your-writes.
+    private final Map<Long, TransferEvaluationResult> pending = new ConcurrentHashMap<>();
+    // One permit per buffered result; a permit is returned only after the backend write succeeds.
+    private Semaphore slots;
+    private final Object flushLock = new Object();
+    private final Object idLock = new Object();
+    private long nextId;
+    private long idLimit;
+
+    private volatile boolean running;
+    private Thread flusher;
+    private Counter flushed;
+    private Counter flushFailures;
+    private Counter writeThrough;
+    private Timer flushTimer;
+
+    @PostConstruct
+    public void start() {
+        slots = new Semaphore(capacity);
+        flushed = meterRegistry.counter("evaluation.writebehind.flushed");
+        flushFailures = meterRegistry.counter("evaluation.writebehind.flush.failures");
+        writeThrough = meterRegistry.counter("evaluation.writebehind.writethrough");
+        flushTimer = Timer.builder("evaluation.writebehind.flush").publishPercentiles(0.5, 0.99).register(meterRegistry);
+        meterRegistry.gauge("evaluation.writebehind.pending", pending, Map::size);
+
+        running = true;
+        flusher = new Thread(this::runFlusher, "evaluation-write-behind");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(flusher);
+        flusher.join(shutdownTimeoutMs);
+        if (!pending.isEmpty()) {
+            log.info("Draining {} buffered evaluation results before shutdown", pending.size());
+            try {
+                flush();
+            } catch (RuntimeException e) {
+                log.error("Shutdown drain failed; {} evaluation results were not written: {}", pending.size(),
+                        pending.keySet(), e);
+            }
+        }
+    }
+
+    @Override
+    public TransferEvaluationResult save(TransferEvaluationResult result) {
+        if (result.getId() != null) {
+            flush();
+            return backend.save(result);
+        }
+        result.setId(nextId());
+        if (!running || !acquire()) {
+            // Buffer full (or shutting down): the caller pays for its own insert.
+            writeThrough.increment();
+            backend.insertAll(List.of(result));
+            return result;
+        }
+        pending.put(result.getId(), result);
+        queue.add(result);
+        if (pending.size() >= batchSize) {
+            LockSupport.unpark(flusher);
+        }
+        return result;
+    }
+
+    @Override
+    public List<TransferEvaluationResult> saveAll(List<TransferEvaluationResult> results) {
+        flush();
+        return backend.saveAll(results);
+    }
+
+    @Override
+    public long reserveIds(int count) {
+        return backend.reserveIds(count);
+    }
+
+    @Override
+    public void insertAll(List<TransferEvaluationResult> results) {
+        backend.insertAll(results);
+    }
+
+    @Override
+    public Optional<TransferEvaluationResult> findById(Long id) {
+        TransferEvaluationResult buffered = pending.get(id);
+        return buffered != null ? Optional.of(buffered) : backend.findById(id);
+    }
+
+    @Override
+    public List<TransferEvaluationResult> findBySourceCourseId(Long sourceCourseId) {
+        List<TransferEvaluationResult> results = new ArrayList<>(backend.findBySourceCourseId(sourceCourseId));
+        Set<Long> stored = results.stream().map(TransferEvaluationResult::getId).collect(Collectors.toSet());
+        for (TransferEvaluationResult buffered : pending.values()) {
+            if (buffered.getSourceCourse() != null && sourceCourseId.equals(buffered.getSourceCourse().getId())
+                    && !stored.contains(buffered.getId())) {
+                results.add(buffered);
+            }
+        }
+        results.sort(Comparator.comparing(TransferEvaluationResult::getId));
+        return results;
+    }
+
+    @Override
+    public List<TransferEvaluationResult> findInvolvingCourse(Long courseId) {
+        flush();
+        return backend.findInvolvingCourse(courseId);
+    }
+
+    @Override
+    public List<TransferEvaluationResult> findForUniversityPair(Long sourceUniversityId, Long targetUniversityId) {
+        flush();
+        return backend.findForUniversityPair(sourceUniversityId, targetUniversityId);
+    }
+
+    @Override
+    public Stream<Object[]> streamRowsBySourceCourse(Long courseId) {
+        flush();
+        return backend.streamRowsBySourceCourse(courseId);
+    }
+
+    @Override
+    public Stream<Object[]> streamMatrixRows(Long sourceUniversityId, Long targetUniversityId) {
+        flush();
+        return backend.streamMatrixRows(sourceUniversityId, targetUniversityId);
+    }
+
+    // Writes what was buffered when called (bounded, so readers are not starved by
+    // a steady stream of new saves); throws if the backend rejects a batch.
+    public void flush() {
+        int batches = queue.size() / batchSize + 1;
+        for (int i = 0; i < batches && !queue.isEmpty(); i++) {
+            flushBatch();
+        }
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    private boolean acquire() {
+        try {
+            return slots.tryAcquire(offerTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private long nextId() {
+        synchronized (idLock) {
+            if (nextId >= idLimit) {
+                nextId = backend.reserveIds(idBlockSize);
+                idLimit = nextId + idBlockSize;
+            }
+            return nextId++;
+        }
+    }
+
+    private void runFlusher() {
+        long retryDelayMs = 0;
+        while (running || !queue.isEmpty()) {
+            if (queue.size() < batchSize || retryDelayMs > 0) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(Math.max(maxDelayMs, retryDelayMs)));
+            }
+            try {
+                flushBatch();
+                retryDelayMs = 0;
+            } catch (RuntimeException e) {
+                // The batch went back to the queue and keeps its permits, so a failing
+                // backend fills the buffer and turns new saves into write-through calls
+                // that surface the error to their callers.
+                retryDelayMs = Math.min(MAX_RETRY_DELAY_MS, Math.max(2 * retryDelayMs, maxDelayMs));
+                log.warn("Write-behind flush of evaluation results failed ({} pending); retrying in {} ms",
+                        pending.size(), retryDelayMs, e);
+                if (!running) return;
+            }
+        }
+    }
+
+    private void flushBatch() {
+        synchronized (flushLock) {
+            List<TransferEvaluationResult> batch = new ArrayList<>(batchSize);
+            TransferEvaluationResult next;
+            while (batch.size() < batchSize && (next = queue.poll()) != null) {
+                batch.add(next);
+            }
+            if (batch.isEmpty()) return;
+            long start = System.nanoTime();
+            try {
+                backend.insertAll(batch);
+            } catch (RuntimeException e) {
+                flushFailures.increment();
+                queue.addAll(batch);
+                throw e;
+            }
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            for (TransferEvaluationResult result : batch) {
+                pending.remove(result.getId());
+            }
+            slots.release(batch.size());
+            flushed.increment(batch.size());
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.demo.throttle;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// AIMD limit: grows by 1/limit per fast response, shrinks multiplicatively when
+// latency rises above tolerance * the baseline or the request fails. The baseline is
+// the minimum latency over the current and previous window, so sustained queueing
+// cannot drag it upwards the way a moving average does.
+public class AdaptiveConcurrencyLimit {
+    private static final double BACKOFF = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final long windowNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong limitBits;
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private final AtomicLong currentMin = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong previousMin = new AtomicLong(Long.MAX_VALUE);
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double tolerance, long windowNanos) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.windowNanos = windowNanos;
+        this.limitBits = new AtomicLong(Double.doubleToRawLongBits(Math.min(initialLimit, maxLimit)));
+    }
+
+    public boolean tryAcquire() {
+        int limit = getLimit();
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(long latencyNanos, boolean failed) {
+        inFlight.decrementAndGet();
+        long baseline = baseline(System.nanoTime());
+        boolean slow = baseline != Long.MAX_VALUE && latencyNanos > baseline * tolerance;
+        if (!failed) {
+            currentMin.accumulateAndGet(latencyNanos, Math::min);
+        }
+
+        while (true) {
+            long bits = limitBits.get();
+            double limit = Double.longBitsToDouble(bits);
+            double next = failed || slow
+                    ? Math.max(minLimit, limit * BACKOFF)
+                    : Math.min(maxLimit, limit + 1.0 / limit);
+            if (next == limit || limitBits.compareAndSet(bits, Double.doubleToRawLongBits(next))) {
+                return;
+            }
+        }
+    }
+
+    private long baseline(long now) {
+        long start = windowStart.get();
+        if (now - start >= windowNanos && windowStart.compareAndSet(start, now)) {
+            previousMin.set(currentMin.getAndSet(Long.MAX_VALUE));
+        }
+        return Math.min(previousMin.get(), currentMin.get());
+    }
+
+    public int getLimit() {
+        return (int) Double.longBitsToDouble(limitBits.get());
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
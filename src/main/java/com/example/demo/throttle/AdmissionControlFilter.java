@@ -0,0 +1,77 @@
+package com.example.demo.throttle;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import java.io.IOException;
+
+public class AdmissionControlFilter extends OncePerRequestFilter {
+    private final AdmissionController admission;
+
+    public AdmissionControlFilter(AdmissionController admission) {
+        this.admission = admission;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        EndpointPolicy policy = admission.isEnabled() ? admission.policyFor(request.getRequestURI()) : null;
+        if (policy == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long now = System.nanoTime();
+        String user = currentUser();
+        long wait = user != null ? policy.tryAcquireUser(user, now) : 0;
+        if (wait > 0) {
+            admission.rejected(policy, "user-rate");
+            reject(response, wait);
+            return;
+        }
+        wait = policy.tryAcquireIp(request.getRemoteAddr(), now);
+        if (wait > 0) {
+            admission.rejected(policy, "ip-rate");
+            reject(response, wait);
+            return;
+        }
+
+        AdaptiveConcurrencyLimit concurrency = policy.getConcurrency();
+        if (!concurrency.tryAcquire()) {
+            admission.rejected(policy, "concurrency");
+            reject(response, 1_000_000_000L);
+            return;
+        }
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = response.getStatus() >= 500;
+        } finally {
+            concurrency.release(System.nanoTime() - now, failed);
+        }
+    }
+
+    private String currentUser() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated() || auth instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return auth.getName();
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long seconds = Math.max(1, (waitNanos + 999_999_999L) / 1_000_000_000L);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(seconds));
+        response.setContentType("text/plain");
+        response.getWriter().write("Too many requests, retry after " + seconds + "s");
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.demo.throttle;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class AdmissionController {
+    private final List<EndpointPolicy> policies;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+
+    public AdmissionController(MeterRegistry meterRegistry,
+            @Value("${throttle.enabled:true}") boolean enabled,
+            @Value("${throttle.evaluate.user-rate:20}") double evaluateUserRate,
+            @Value("${throttle.evaluate.ip-rate:50}") double evaluateIpRate,
+            @Value("${throttle.evaluate.burst:40}") int evaluateBurst,
+            @Value("${throttle.evaluate.max-concurrency:64}") int evaluateMaxConcurrency,
+            @Value("${throttle.auth.user-rate:5}") double authUserRate,
+            @Value("${throttle.auth.ip-rate:10}") double authIpRate,
+            @Value("${throttle.auth.burst:10}") int authBurst,
+            @Value("${throttle.auth.max-concurrency:16}") int authMaxConcurrency,
+            @Value("${throttle.default.user-rate:100}") double defaultUserRate,
+            @Value("${throttle.default.ip-rate:200}") double defaultIpRate,
+            @Value("${throttle.default.burst:200}") int defaultBurst,
+            @Value("${throttle.default.max-concurrency:256}") int defaultMaxConcurrency,
+            @Value("${throttle.latency-tolerance:2.0}") double latencyTolerance,
+            @Value("${throttle.latency-window-ms:30000}") long latencyWindowMs) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        long window = TimeUnit.MILLISECONDS.toNanos(latencyWindowMs);
+        this.policies = List.of(
+                new EndpointPolicy("evaluate", "/api/transfer-evaluations/evaluate", evaluateUserRate, evaluateIpRate,
+                        evaluateBurst, new AdaptiveConcurrencyLimit(evaluateMaxConcurrency / 2, 4, evaluateMaxConcurrency, latencyTolerance, window)),
+                new EndpointPolicy("auth", "/api/auth/", authUserRate, authIpRate,
+                        authBurst, new AdaptiveConcurrencyLimit(authMaxConcurrency / 2, 2, authMaxConcurrency, latencyTolerance, window)),
+                new EndpointPolicy("default", "/api/", defaultUserRate, defaultIpRate,
+                        defaultBurst, new AdaptiveConcurrencyLimit(defaultMaxConcurrency / 2, 8, defaultMaxConcurrency, latencyTolerance, window)));
+        for (EndpointPolicy policy : policies) {
+            meterRegistry.gauge("throttle.concurrency.limit", Tags.of("policy", policy.getName()),
+                    policy.getConcurrency(), AdaptiveConcurrencyLimit::getLimit);
+            meterRegistry.gauge("throttle.concurrency.inflight", Tags.of("policy", policy.getName()),
+                    policy.getConcurrency(), AdaptiveConcurrencyLimit::getInFlight);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public EndpointPolicy policyFor(String path) {
+        for (EndpointPolicy policy : policies) {
+            if (policy.matches(path)) {
+                return policy;
+            }
+        }
+        return null;
+    }
+
+    public void rejected(EndpointPolicy policy, String reason) {
+        meterRegistry.counter("throttle.rejected", "policy", policy.getName(), "reason", reason).increment();
+    }
+
+    @Scheduled(fixedDelayString = "${throttle.eviction-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        for (EndpointPolicy policy : policies) {
+            policy.evictIdle(now);
+        }
+    }
+}
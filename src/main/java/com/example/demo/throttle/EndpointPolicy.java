@@ -0,0 +1,61 @@
+package com.example.demo.throttle;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class EndpointPolicy {
+    private final String name;
+    private final String pathPrefix;
+    private final double userPermitsPerSecond;
+    private final double ipPermitsPerSecond;
+    private final int burst;
+    private final AdaptiveConcurrencyLimit concurrency;
+    private final Map<String, TokenBucket> userBuckets = new ConcurrentHashMap<>();
+    private final Map<String, TokenBucket> ipBuckets = new ConcurrentHashMap<>();
+
+    public EndpointPolicy(String name, String pathPrefix, double userPermitsPerSecond, double ipPermitsPerSecond,
+                          int burst, AdaptiveConcurrencyLimit concurrency) {
+        this.name = name;
+        this.pathPrefix = pathPrefix;
+        this.userPermitsPerSecond = userPermitsPerSecond;
+        this.ipPermitsPerSecond = ipPermitsPerSecond;
+        this.burst = burst;
+        this.concurrency = concurrency;
+    }
+
+    public String getName() { return name; }
+    public AdaptiveConcurrencyLimit getConcurrency() { return concurrency; }
+
+    public boolean matches(String path) {
+        return path.startsWith(pathPrefix);
+    }
+
+    public long tryAcquireUser(String user, long nowNanos) {
+        return userBuckets.computeIfAbsent(user, k -> new TokenBucket(userPermitsPerSecond, burst, nowNanos))
+                .tryAcquire(nowNanos);
+    }
+
+    public long tryAcquireIp(String ip, long nowNanos) {
+        return ipBuckets.computeIfAbsent(ip, k -> new TokenBucket(ipPermitsPerSecond, burst, nowNanos))
+                .tryAcquire(nowNanos);
+    }
+
+    public int trackedKeys() {
+        return userBuckets.size() + ipBuckets.size();
+    }
+
+    public void evictIdle(long nowNanos) {
+        evictIdle(userBuckets, nowNanos);
+        evictIdle(ipBuckets, nowNanos);
+    }
+
+    private static void evictIdle(Map<String, TokenBucket> buckets, long nowNanos) {
+        Iterator<TokenBucket> it = buckets.values().iterator();
+        while (it.hasNext()) {
+            if (it.next().isIdle(nowNanos)) {
+                it.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.demo.evaluation;
+
+import com.example.demo.entity.CourseContentTopic;
+import com.example.demo.entity.TransferRule;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static com.example.demo.evaluation.EvaluationFixtures.rule;
+import static com.example.demo.evaluation.EvaluationFixtures.vector;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+// Compiled policy over topic vectors against the name-matching loop evaluateTransfer
+// used before rules were compiled. Both paths must agree on every pair, and the
+// compiled path must be faster than the loop it replaced on the same machine.
+public class CompiledPolicyBenchmarkTest {
+    private static final int PAIRS = 5_000;
+    private static final int TOPICS_PER_COURSE = 8;
+    private static final int TOPIC_POOL = 40;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int ROUNDS = 20;
+
+    private final List<List<CourseContentTopic>> sourceTopics = new ArrayList<>();
+    private final List<List<CourseContentTopic>> targetTopics = new ArrayList<>();
+    private final int[] sourceCredits = new int[PAIRS];
+    private final int[] targetCredits = new int[PAIRS];
+    private final TopicVector[] sourceVectors = new TopicVector[PAIRS];
+    private final TopicVector[] targetVectors = new TopicVector[PAIRS];
+    private List<TransferRule> rules;
+    private CompiledPolicy policy;
+
+    @BeforeClass
+    public void setUp() {
+        Random random = new Random(42);
+        TopicDictionary dictionary = new TopicDictionary();
+        for (int i = 0; i < PAIRS; i++) {
+            sourceTopics.add(topics(random));
+            targetTopics.add(topics(random));
+            sourceCredits[i] = 2 + random.nextInt(4);
+            targetCredits[i] = 2 + random.nextInt(4);
+            sourceVectors[i] = vector(dictionary, sourceTopics.get(i));
+            targetVectors[i] = vector(dictionary, targetTopics.get(i));
+        }
+        rules = List.of(rule(70.0, 0), rule(50.0, 1), rule(30.0, null));
+        policy = EvaluationFixtures.policyCache(dictionary, rules).compile(rules);
+    }
+
+    @Test
+    public void compiledPolicyMatchesLoopAndIsFaster() {
+        for (int i = 0; i < PAIRS; i++) {
+            assertEquals(compiled(i), loop(i), "pair " + i);
+        }
+        for (int r = 0; r < WARMUP_ROUNDS; r++) {
+            runLoop();
+            runCompiled();
+        }
+        long loopNanos = 0;
+        long compiledNanos = 0;
+        for (int r = 0; r < ROUNDS; r++) {
+            long start = System.nanoTime();
+            int loopEligible = runLoop();
+            loopNanos += System.nanoTime() - start;
+            start = System.nanoTime();
+            int compiledEligible = runCompiled();
+            compiledNanos += System.nanoTime() - start;
+            assertEquals(compiledEligible, loopEligible);
+        }
+        long evaluations = (long) PAIRS * ROUNDS;
+        assertTrue(compiledNanos < loopNanos, "compiled " + compiledNanos / evaluations + " ns/pair, loop "
+                + loopNanos / evaluations + " ns/pair");
+    }
+
+    private int runLoop() {
+        int eligible = 0;
+        for (int i = 0; i < PAIRS; i++) {
+            if (loop(i)) eligible++;
+        }
+        return eligible;
+    }
+
+    private int runCompiled() {
+        int eligible = 0;
+        for (int i = 0; i < PAIRS; i++) {
+            if (compiled(i)) eligible++;
+        }
+        return eligible;
+    }
+
+    private boolean compiled(int i) {
+        double overlap = sourceVectors[i].overlap(targetVectors[i]);
+        return CompiledPolicy.passed(policy.evaluate(overlap, sourceCredits[i], targetCredits[i], TopicDictionary.NONE,
+                sourceVectors[i], targetVectors[i]));
+    }
+
+    // The pre-compilation evaluateTransfer body, minus the repository calls.
+    private boolean loop(int i) {
+        double overlapPercentage = calculateOverlap(sourceTopics.get(i), targetTopics.get(i));
+        for (TransferRule rule : rules) {
+            if (overlapPercentage >= rule.getMinimumOverlapPercentage()) {
+                int creditDiff = Math.abs(sourceCredits[i] - targetCredits[i]);
+                if (rule.getCreditHourTolerance() == null || creditDiff <= rule.getCreditHourTolerance()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static double calculateOverlap(List<CourseContentTopic> sourceTopics, List<CourseContentTopic> targetTopics) {
+        if (sourceTopics.isEmpty() && targetTopics.isEmpty()) return 100.0;
+        if (sourceTopics.isEmpty() || targetTopics.isEmpty()) return 0.0;
+
+        double totalSourceWeight = sourceTopics.stream().mapToDouble(CourseContentTopic::getWeightPercentage).sum();
+        if (totalSourceWeight == 0) totalSourceWeight = 100.0;
+
+        double matchedWeight = 0.0;
+        for (CourseContentTopic sourceTopic : sourceTopics) {
+            for (CourseContentTopic targetTopic : targetTopics) {
+                if (sourceTopic.getTopicName().equalsIgnoreCase(targetTopic.getTopicName())) {
+                    matchedWeight += Math.min(sourceTopic.getWeightPercentage(), targetTopic.getWeightPercentage());
+                    break;
+                }
+            }
+        }
+        return (matchedWeight / totalSourceWeight) * 100.0;
+    }
+
+    private static List<CourseContentTopic> topics(Random random) {
+        List<CourseContentTopic> topics = new ArrayList<>();
+        for (int t = 0; t < TOPICS_PER_COURSE; t++) {
+            CourseContentTopic topic = new CourseContentTopic();
+            topic.setTopicName("Topic-" + random.nextInt(TOPIC_POOL));
+            topic.setWeightPercentage((double) (5 + random.nextInt(20)));
+            topics.add(topic);
+        }
+        return topics;
+    }
+}
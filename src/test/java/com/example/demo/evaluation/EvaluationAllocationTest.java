@@ -0,0 +1,120 @@
+package com.example.demo.evaluation;
+
+import com.example.demo.entity.Course;
+import com.example.demo.entity.TransferEvaluationResult;
+import com.example.demo.entity.TransferRule;
+import com.example.demo.entity.TransferRuleCriterion;
+import com.example.demo.service.impl.TransferEvaluationServiceImpl;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import static com.example.demo.evaluation.EvaluationFixtures.criterion;
+import static com.example.demo.evaluation.EvaluationFixtures.rule;
+import static com.example.demo.evaluation.EvaluationFixtures.vector;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+// Bytes allocated per evaluation on the scoring hot path, measured with the thread's
+// allocation counter. The cached policy lookup, overlap and rule evaluation must
+// allocate nothing; decide() may only box the overlap it stores on the result.
+public class EvaluationAllocationTest {
+    private static final int WARMUP = 200_000;
+    private static final int ITERATIONS = 100_000;
+    private static final double CORE_BUDGET_BYTES = 1.0;
+    private static final double DECIDE_BUDGET_BYTES = 32.0;
+    // Outside the Long cache, as real university ids are.
+    private static final Long SOURCE_UNIVERSITY = 1_001L;
+    private static final Long TARGET_UNIVERSITY = 2_002L;
+
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private TopicVector[] sources;
+    private TopicVector[] targets;
+    private PolicyCache policyCache;
+    private int department;
+
+    @BeforeClass
+    public void setUp() {
+        TopicDictionary dictionary = new TopicDictionary();
+        sources = new TopicVector[] {
+                vector(dictionary, new String[] {"arrays", "graphs", "sorting", "recursion"}, new String[] {"core", "core", "core", "theory"}),
+                vector(dictionary, new String[] {"sql", "indexes", "transactions"}, new String[] {"data", "data", "theory"}),
+        };
+        targets = new TopicVector[] {
+                vector(dictionary, new String[] {"graphs", "sorting", "hashing", "recursion"}, new String[] {"core", "core", "core", "theory"}),
+                vector(dictionary, new String[] {"sql", "transactions", "normalization"}, new String[] {"data", "theory", "data"}),
+        };
+        department = dictionary.departmentId("CS");
+
+        TransferRule strict = rule(70.0, 0,
+                criterion(TransferRuleCriterion.REQUIRED_TOPIC, "graphs", null, null, null),
+                criterion(TransferRuleCriterion.CATEGORY_MIN_OVERLAP, null, "core", null, 60.0));
+        TransferRule weighted = rule(50.0, 1,
+                criterion(TransferRuleCriterion.CATEGORY_WEIGHT, null, "theory", null, 2.0),
+                criterion(TransferRuleCriterion.DEPARTMENT_MIN_OVERLAP, null, null, "CS", 40.0),
+                criterion(TransferRuleCriterion.MIN_CREDIT_HOURS, null, null, null, 3.0));
+        policyCache = EvaluationFixtures.policyCache(dictionary, List.of(strict, weighted));
+        CompiledPolicy policy = policyCache.policyFor(SOURCE_UNIVERSITY, TARGET_UNIVERSITY);
+        assertTrue(policy.needsTopics());
+        assertSame(policyCache.policyFor(SOURCE_UNIVERSITY, TARGET_UNIVERSITY), policy);
+    }
+
+    @Test
+    public void lookupOverlapAndRulesAllocateNothing() {
+        scoreCore(WARMUP);
+        long before = allocatedBytes();
+        long sink = scoreCore(ITERATIONS);
+        double perEvaluation = (double) (allocatedBytes() - before) / ITERATIONS;
+        assertTrue(perEvaluation <= CORE_BUDGET_BYTES,
+                "core evaluation allocated " + perEvaluation + " bytes per evaluation (" + sink + ")");
+    }
+
+    @Test
+    public void decideStaysWithinBudget() {
+        TransferEvaluationServiceImpl evaluator = new TransferEvaluationServiceImpl();
+        TransferEvaluationResult result = new TransferEvaluationResult();
+        result.setSourceCourse(course(3));
+        result.setTargetCourse(course(4));
+        decide(evaluator, result, WARMUP);
+        long before = allocatedBytes();
+        decide(evaluator, result, ITERATIONS);
+        double perEvaluation = (double) (allocatedBytes() - before) / ITERATIONS;
+        assertTrue(perEvaluation <= DECIDE_BUDGET_BYTES,
+                "decide allocated " + perEvaluation + " bytes per evaluation");
+    }
+
+    private long scoreCore(int iterations) {
+        long sink = 0;
+        for (int n = 0; n < iterations; n++) {
+            TopicVector source = sources[n & 1];
+            TopicVector target = targets[(n >> 1) & 1];
+            CompiledPolicy policy = policyCache.policyFor(SOURCE_UNIVERSITY, TARGET_UNIVERSITY);
+            double overlap = source.overlap(target);
+            int outcome = policy.evaluate(overlap, 3, 3 + (n & 1), department, source, target);
+            sink += CompiledPolicy.passed(outcome) ? 1 : CompiledPolicy.failure(outcome).ordinal();
+        }
+        return sink;
+    }
+
+    private void decide(TransferEvaluationServiceImpl evaluator, TransferEvaluationResult result, int iterations) {
+        for (int n = 0; n < iterations; n++) {
+            TopicVector source = sources[n & 1];
+            TopicVector target = targets[(n >> 1) & 1];
+            CompiledPolicy policy = policyCache.policyFor(SOURCE_UNIVERSITY, TARGET_UNIVERSITY);
+            evaluator.decide(result, policy, source.overlap(target), department, source, target, null);
+        }
+    }
+
+    private long allocatedBytes() {
+        return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static Course course(int creditHours) {
+        Course course = new Course();
+        course.setCreditHours(creditHours);
+        course.setDepartment("CS");
+        return course;
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.demo.evaluation;
+
+import com.example.demo.entity.CourseContentTopic;
+import com.example.demo.entity.TransferRule;
+import com.example.demo.entity.TransferRuleCriterion;
+import com.example.demo.repository.TransferRuleRepository;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+// Rules, criteria, topic vectors and a policy cache for the evaluation tests.
+final class EvaluationFixtures {
+
+    private EvaluationFixtures() {}
+
+    static TransferRule rule(double minOverlap, Integer tolerance, TransferRuleCriterion... criteria) {
+        TransferRule rule = new TransferRule();
+        rule.setMinimumOverlapPercentage(minOverlap);
+        rule.setCreditHourTolerance(tolerance);
+        rule.setCriteria(new ArrayList<>(List.of(criteria)));
+        return rule;
+    }
+
+    static TransferRuleCriterion criterion(String type, String topic, String category, String department, Double value) {
+        TransferRuleCriterion criterion = new TransferRuleCriterion();
+        criterion.setType(type);
+        criterion.setTopicName(topic);
+        criterion.setCategory(category);
+        criterion.setDepartment(department);
+        criterion.setValue(value);
+        return criterion;
+    }
+
+    static TopicVector vector(TopicDictionary dictionary, String[] names, String[] categories) {
+        int[] ids = new int[names.length];
+        double[] weights = new double[names.length];
+        int[] categoryIds = new int[names.length];
+        for (int i = 0; i < names.length; i++) {
+            ids[i] = dictionary.topicId(names[i]);
+            weights[i] = 100.0 / names.length;
+            categoryIds[i] = dictionary.categoryId(categories[i]);
+        }
+        return TopicVector.sorted(ids, weights, categoryIds);
+    }
+
+    static TopicVector vector(TopicDictionary dictionary, List<CourseContentTopic> topics) {
+        int[] ids = new int[topics.size()];
+        double[] weights = new double[topics.size()];
+        int[] categoryIds = new int[topics.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = dictionary.topicId(topics.get(i).getTopicName());
+            weights[i] = topics.get(i).getWeightPercentage();
+            categoryIds[i] = dictionary.categoryId(topics.get(i).getCategory());
+        }
+        return TopicVector.sorted(ids, weights, categoryIds);
+    }
+
+    // Every pair gets the same active rules.
+    static PolicyCache policyCache(TopicDictionary dictionary, List<TransferRule> rules) {
+        TransferRuleRepository ruleRepo = (TransferRuleRepository) Proxy.newProxyInstance(
+                TransferRuleRepository.class.getClassLoader(), new Class<?>[] {TransferRuleRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findBySourceUniversityIdAndTargetUniversityIdAndActiveTrue" -> rules;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "TransferRuleRepository stub";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        PolicyCache cache = new PolicyCache();
+        ReflectionTestUtils.setField(cache, "dictionary", dictionary);
+        ReflectionTestUtils.setField(cache, "ruleRepo", ruleRepo);
+        return cache;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.demo.service.impl;
+
+import com.example.demo.config.AsyncConfig;
+import com.example.demo.config.SchedulingConfig;
+import com.example.demo.entity.ChangeEvent;
+import com.example.demo.evaluation.TopicDictionary;
+import com.example.demo.repository.EvaluationChangeRepository;
+import com.example.demo.repository.EvaluationExplanationBlobRepository;
+import com.example.demo.stats.ArticulationStatsAccumulator;
+import com.example.demo.store.EvaluationResultStore;
+import org.springframework.aop.framework.autoproxy.AutoProxyUtils;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testng.annotations.Test;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.testng.Assert.assertTrue;
+
+// Re-evaluation must run on the bounded evaluation pool. Spring Boot registers a
+// taskScheduler next to it, and with two executors and no "taskExecutor" bean an
+// unqualified @Async falls back to a new thread per event.
+public class ReevaluationExecutorTest {
+
+    @Test
+    public void reevaluationRunsOnEvaluationExecutor() throws Exception {
+        CompletableFuture<String> thread = new CompletableFuture<>();
+        EvaluationResultStore store = stub(EvaluationResultStore.class, () -> {
+            thread.complete(Thread.currentThread().getName());
+            return List.of();
+        });
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            context.register(AsyncConfig.class, SchedulingConfig.class);
+            context.registerBean("taskScheduler", ThreadPoolTaskScheduler.class);
+            // Spring Boot proxies classes, which is what makes onCommitted callable here.
+            context.registerBean(ReevaluationServiceImpl.class,
+                    definition -> definition.setAttribute(AutoProxyUtils.PRESERVE_TARGET_CLASS_ATTRIBUTE, true));
+            context.getBeanFactory().registerSingleton("resultStore", store);
+            context.getBeanFactory().registerSingleton("changeRepo", stub(EvaluationChangeRepository.class, () -> null));
+            context.getBeanFactory().registerSingleton("explanationRepo", stub(EvaluationExplanationBlobRepository.class, () -> null));
+            context.getBeanFactory().registerSingleton("evaluator", new TransferEvaluationServiceImpl());
+            context.getBeanFactory().registerSingleton("transactionTemplate", new TransactionTemplate());
+            context.getBeanFactory().registerSingleton("dictionary", new TopicDictionary());
+            context.getBeanFactory().registerSingleton("stats", new ArticulationStatsAccumulator());
+            context.refresh();
+
+            ChangeEvent event = new ChangeEvent();
+            event.setEntityType(ChangeEvent.TOPIC);
+            event.setEntityId(1L);
+            event.setCourseId(1L);
+            context.getBean(ReevaluationServiceImpl.class).onCommitted(event);
+
+            String name = thread.get(10, TimeUnit.SECONDS);
+            assertTrue(name.startsWith("evaluation-"), "re-evaluation ran on " + name);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, Supplier<Object> answer) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) ->
+                switch (method.getName()) {
+                    case "toString" -> type.getSimpleName() + " stub";
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> answer.get();
+                });
+    }
+}